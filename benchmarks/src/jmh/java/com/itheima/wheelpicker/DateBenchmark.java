@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import com.itheima.wheelpicker.chrono.ChineseLunarChronology;
+import com.itheima.wheelpicker.chrono.GregorianChronology;
+import com.itheima.wheelpicker.chrono.WheelChronology;
+import com.itheima.wheelpicker.model.IntRangeList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Date math of the date pickers: the day list WheelDayPicker recomputes when the month changes,
+ * the date WheelDatePicker assembles from its wheels and parses back, and the year labels of
+ * WheelYearPicker.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateBenchmark {
+    private static final int YEAR_START = 1900;
+
+    private static final int YEAR_END = 2100;
+
+    @Param({"gregorian", "lunar"})
+    private String chronologyName;
+
+    private WheelChronology chronology;
+
+    /**
+     * Day lists by length, shared like the cache of WheelDayPicker.
+     */
+    private final Map<Integer, List<Integer>> days = new HashMap<>();
+
+    private List<Integer> shownDays;
+
+    private int year = YEAR_START;
+
+    private int month = 1;
+
+    private Date date;
+
+    @Setup
+    public void setup() {
+        chronology = "lunar".equals(chronologyName) ? ChineseLunarChronology.getInstance()
+                : GregorianChronology.getInstance();
+        shownDays = new IntRangeList(1, chronology.getDaysInMonth(year, month));
+        date = chronology.toDate(2000, 2, 29);
+    }
+
+    private void nextMonth() {
+        month++;
+        if (month > chronology.getMonthsInYear(year)) {
+            month = 1;
+            year = year == YEAR_END ? YEAR_START : year + 1;
+        }
+    }
+
+    /**
+     * Move to the next month and recompute the day list, keeping the selected day through the diff.
+     *
+     * @return new position of the old days
+     */
+    @Benchmark
+    public int[] recomputeDaysInMonth() {
+        nextMonth();
+        int count = chronology.getDaysInMonth(year, month);
+        List<Integer> data = days.get(count);
+        if (null == data) {
+            data = new IntRangeList(1, count);
+            days.put(count, data);
+        }
+        int[] oldToNew = WheelDataDiff.map(shownDays, data, DiffStrategy.DEFAULT);
+        shownDays = data;
+        return oldToNew;
+    }
+
+    /**
+     * Assemble the date of the wheels, done on every selection.
+     *
+     * @return date
+     */
+    @Benchmark
+    public Date assembleDate() {
+        nextMonth();
+        return chronology.toDate(year, month, 1);
+    }
+
+    /**
+     * Parse a date into year, month and day, done when a date is set or the chronology changes.
+     *
+     * @return year, month and day
+     */
+    @Benchmark
+    public int[] parseDate() {
+        return chronology.fromDate(date);
+    }
+
+    /**
+     * Label every year of the default range and build the widest label, as WheelYearPicker and
+     * WheelDatePicker do.
+     *
+     * @param blackhole sink
+     */
+    @Benchmark
+    public void yearLabels(Blackhole blackhole) {
+        IntRangeList years = new IntRangeList(YEAR_START, YEAR_END);
+        for (int i = 0; i < years.size(); i++) {
+            blackhole.consume(String.valueOf(years.get(i)));
+        }
+        String lastYear = String.valueOf(years.get(years.size() - 1));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lastYear.length(); i++) {
+            sb.append('0');
+        }
+        blackhole.consume(sb.toString());
+        blackhole.consume(years.getWidestText());
+    }
+}
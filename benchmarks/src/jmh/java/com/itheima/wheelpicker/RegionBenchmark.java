@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import com.itheima.wheelpicker.region.RegionData;
+import com.itheima.wheelpicker.region.RegionDataConverter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Region data of WheelAreaPicker: loading the packaged file, the legacy RegionJsonData.dat path,
+ * and the city and area lists rebuilt when another province or city is selected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegionBenchmark {
+    private byte[] compact;
+
+    private byte[] legacy;
+
+    private RegionData regionData;
+
+    private int province;
+
+    private List<String> cities;
+
+    private List<String> areas;
+
+    @Setup
+    public void setup() throws IOException {
+        compact = readResource("/RegionData.bin");
+        legacy = readResource("/RegionJsonData.dat");
+        regionData = RegionData.read(new ByteArrayInputStream(compact));
+        cities = regionData.getCityNames(0);
+        areas = regionData.getAreaNames(0, 0);
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream inputStream = RegionBenchmark.class.getResourceAsStream(name)) {
+            if (null == inputStream) {
+                throw new IOException("Missing benchmark resource " + name);
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * Load the packaged region file, what the first area picker of a process pays.
+     *
+     * @return region data
+     * @throws IOException never, the file is in memory
+     */
+    @Benchmark
+    public RegionData loadRegionData() throws IOException {
+        return RegionData.read(new ByteArrayInputStream(compact));
+    }
+
+    /**
+     * Load the serialized RegionJsonData.dat and convert it, the path taken without the packaged file.
+     *
+     * @return region data
+     * @throws IOException never, the file is in memory
+     * @throws ClassNotFoundException if the model classes are missing
+     */
+    @Benchmark
+    public RegionData loadLegacyRegionData() throws IOException, ClassNotFoundException {
+        byte[] converted = RegionDataConverter.convert(
+                RegionDataConverter.readLegacy(new ByteArrayInputStream(legacy)));
+        return RegionData.read(new ByteArrayInputStream(converted));
+    }
+
+    /**
+     * Select the next province: rebuild its city list and the area list of its first city, diff
+     * them against the shown lists and find their widest names, as the city and area wheels do.
+     *
+     * @param blackhole sink
+     */
+    @Benchmark
+    public void rebuildCityAndAreaLists(Blackhole blackhole) {
+        province = (province + 1) % regionData.getProvinceCount();
+        List<String> newCities = regionData.getCityNames(province);
+        List<String> newAreas = regionData.getAreaNames(province, 0);
+        blackhole.consume(WheelDataDiff.map(cities, newCities, DiffStrategy.DEFAULT));
+        blackhole.consume(WheelDataDiff.map(areas, newAreas, DiffStrategy.DEFAULT));
+        blackhole.consume(((IWidestTextHint) newCities).getWidestText());
+        blackhole.consume(((IWidestTextHint) newAreas).getWidestText());
+        cities = newCities;
+        areas = newAreas;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import com.itheima.wheelpicker.core.TextMeasurer;
+import com.itheima.wheelpicker.core.WidestItemSearch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Max width search of WheelPicker over large lists without a widest text hint. A stub measurer
+ * adds up per character widths, so the cost of the search itself is measured, not text shaping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WidestItemBenchmark {
+    private static final TextMeasurer STUB_MEASURER = text -> {
+        float width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            // Wide CJK glyphs, narrow latin glyphs
+            width += text.charAt(i) >= '⺀' ? 24 : 12;
+        }
+        return width;
+    };
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<String> items;
+
+    private int[] widths;
+
+    private int[] halfKnownWidths;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add((i % 3 == 0 ? "项目 " : "item ") + i);
+        }
+        widths = new int[size];
+        halfKnownWidths = new int[size];
+        Arrays.fill(halfKnownWidths, -1);
+        for (int i = 0; i < size; i += 2) {
+            halfKnownWidths[i] = (int) STUB_MEASURER.measureText(items.get(i));
+        }
+    }
+
+    /**
+     * Measure every item, as after setData.
+     *
+     * @return widest width
+     */
+    @Benchmark
+    public int measureAll() {
+        return WidestItemSearch.measure(items, STUB_MEASURER, null, widths);
+    }
+
+    /**
+     * Measure the items a diff could not match, as after setData with a diff strategy.
+     *
+     * @return widest width
+     */
+    @Benchmark
+    public int measureWithKnownWidths() {
+        return WidestItemSearch.measure(items, STUB_MEASURER, halfKnownWidths, widths);
+    }
+}
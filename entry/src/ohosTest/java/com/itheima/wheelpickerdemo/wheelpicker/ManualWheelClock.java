@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpickerdemo.wheelpicker;
+
+import com.itheima.wheelpicker.WheelClock;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Clock advanced by hand. Posted tasks run on the calling thread when the clock passes their time,
+ * in time order and then in post order, so a replay gives the same ticks on every run.
+ */
+public class ManualWheelClock implements WheelClock {
+    private final PriorityQueue<Task> mTasks = new PriorityQueue<>();
+
+    private final Map<Runnable, Integer> mRunCounts = new IdentityHashMap<>();
+
+    private long mNow;
+
+    private long mSequence;
+
+    @Override
+    public long now() {
+        return mNow;
+    }
+
+    @Override
+    public void post(Runnable task, long delayMillis) {
+        mTasks.add(new Task(task, mNow + Math.max(0, delayMillis), mSequence++));
+    }
+
+    /**
+     * Move the clock forward, running the tasks due meanwhile.
+     *
+     * @param millis time to advance
+     */
+    public void advance(long millis) {
+        long target = mNow + millis;
+        while (!mTasks.isEmpty() && mTasks.peek().mTime <= target) {
+            Task task = mTasks.poll();
+            mNow = task.mTime;
+            mRunCounts.merge(task.mRunnable, 1, Integer::sum);
+            task.mRunnable.run();
+        }
+        mNow = target;
+    }
+
+    public boolean hasPendingTasks() {
+        return !mTasks.isEmpty();
+    }
+
+    /**
+     * Get how often a task ran.
+     *
+     * @param task task, compared by identity
+     * @return run count
+     */
+    public int getRunCount(Runnable task) {
+        Integer count = mRunCounts.get(task);
+        return null == count ? 0 : count;
+    }
+
+    private static final class Task implements Comparable<Task> {
+        private final Runnable mRunnable;
+        private final long mTime;
+        private final long mSequence;
+
+        private Task(Runnable runnable, long time, long sequence) {
+            mRunnable = runnable;
+            mTime = time;
+            mSequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (mTime != other.mTime) {
+                return Long.compare(mTime, other.mTime);
+            }
+            return Long.compare(mSequence, other.mSequence);
+        }
+    }
+}
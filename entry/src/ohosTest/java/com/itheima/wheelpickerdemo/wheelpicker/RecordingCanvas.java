@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpickerdemo.wheelpicker;
+
+import ohos.agp.render.Canvas;
+import ohos.agp.render.Paint;
+import ohos.agp.utils.Matrix;
+import ohos.agp.utils.Rect;
+import ohos.agp.utils.RectFloat;
+
+/**
+ * Canvas that draws nothing and counts the operations of a frame, to keep the rendering cost of
+ * the wheels under a budget.
+ */
+public class RecordingCanvas extends Canvas {
+    private int mDrawTextCount;
+    private int mDrawRectCount;
+    private int mDrawLineCount;
+    private int mClipRectCount;
+    private int mSaveCount;
+    private int mRestoreCount;
+    private int mConcatCount;
+    private int mTranslateCount;
+    private int mScaleCount;
+    private int mMaxSaveDepth;
+    private int mSaveDepth;
+
+    /**
+     * Clear the counters before the next frame.
+     */
+    public void reset() {
+        mDrawTextCount = 0;
+        mDrawRectCount = 0;
+        mDrawLineCount = 0;
+        mClipRectCount = 0;
+        mSaveCount = 0;
+        mRestoreCount = 0;
+        mConcatCount = 0;
+        mTranslateCount = 0;
+        mScaleCount = 0;
+        mMaxSaveDepth = 0;
+        mSaveDepth = 0;
+    }
+
+    @Override
+    public void drawText(Paint paint, String text, float x, float y) {
+        mDrawTextCount++;
+    }
+
+    @Override
+    public void drawRect(Rect rect, Paint paint) {
+        mDrawRectCount++;
+    }
+
+    @Override
+    public void drawRect(RectFloat rect, Paint paint) {
+        mDrawRectCount++;
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        mDrawRectCount++;
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float endX, float endY, Paint paint) {
+        mDrawLineCount++;
+    }
+
+    @Override
+    public void clipRect(Rect rect) {
+        mClipRectCount++;
+    }
+
+    @Override
+    public void clipRect(RectFloat rect) {
+        mClipRectCount++;
+    }
+
+    @Override
+    public void clipRect(Rect rect, ClipOp op) {
+        mClipRectCount++;
+    }
+
+    @Override
+    public void clipRect(RectFloat rect, ClipOp op) {
+        mClipRectCount++;
+    }
+
+    @Override
+    public int save() {
+        mSaveCount++;
+        mSaveDepth++;
+        mMaxSaveDepth = Math.max(mMaxSaveDepth, mSaveDepth);
+        return mSaveDepth;
+    }
+
+    @Override
+    public void restore() {
+        mRestoreCount++;
+        mSaveDepth--;
+    }
+
+    @Override
+    public void concat(Matrix matrix) {
+        mConcatCount++;
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        mTranslateCount++;
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        mScaleCount++;
+    }
+
+    public int getDrawTextCount() {
+        return mDrawTextCount;
+    }
+
+    public int getDrawRectCount() {
+        return mDrawRectCount;
+    }
+
+    public int getDrawLineCount() {
+        return mDrawLineCount;
+    }
+
+    public int getClipRectCount() {
+        return mClipRectCount;
+    }
+
+    public int getSaveCount() {
+        return mSaveCount;
+    }
+
+    public int getRestoreCount() {
+        return mRestoreCount;
+    }
+
+    public int getConcatCount() {
+        return mConcatCount;
+    }
+
+    public int getTranslateCount() {
+        return mTranslateCount;
+    }
+
+    public int getScaleCount() {
+        return mScaleCount;
+    }
+
+    public int getMaxSaveDepth() {
+        return mMaxSaveDepth;
+    }
+
+    @Override
+    public String toString() {
+        return "drawText=" + mDrawTextCount + ", drawRect=" + mDrawRectCount + ", drawLine=" + mDrawLineCount
+                + ", clipRect=" + mClipRectCount + ", save=" + mSaveCount + ", restore=" + mRestoreCount
+                + ", concat=" + mConcatCount + ", translate=" + mTranslateCount + ", scale=" + mScaleCount
+                + ", maxSaveDepth=" + mMaxSaveDepth;
+    }
+}
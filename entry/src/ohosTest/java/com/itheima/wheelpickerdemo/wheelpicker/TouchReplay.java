@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpickerdemo.wheelpicker;
+
+import com.itheima.wheelpicker.WheelPicker;
+import ohos.multimodalinput.event.TouchEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recorded touch sequence replayed into a wheel driven by a {@link ManualWheelClock}.
+ * Touches are delivered at their recorded times and a frame is drawn every vsync until the wheel
+ * has settled, so the same sequence gives the same {@link Result} on every run and every device.
+ */
+public class TouchReplay {
+    /**
+     * Vsync interval, in milliseconds.
+     */
+    public static final int FRAME_INTERVAL = 16;
+
+    /**
+     * Longest time a wheel may take to settle after the last touch, in milliseconds.
+     */
+    public static final long SETTLE_TIMEOUT = 10_000;
+
+    private final String mName;
+
+    private final List<Touch> mTouches = new ArrayList<>();
+
+    private long mTime;
+
+    private float mPointY;
+
+    public TouchReplay(String name) {
+        mName = name;
+    }
+
+    /**
+     * Put a finger down.
+     *
+     * @param pointY position
+     * @return this replay
+     */
+    public TouchReplay down(float pointY) {
+        mPointY = pointY;
+        return add(TouchEvent.PRIMARY_POINT_DOWN);
+    }
+
+    /**
+     * Move the finger in equal steps.
+     *
+     * @param distance total distance, negative to move up
+     * @param steps number of moves
+     * @param interval time between moves, in milliseconds
+     * @return this replay
+     */
+    public TouchReplay move(float distance, int steps, long interval) {
+        for (int i = 0; i < steps; i++) {
+            mTime += interval;
+            mPointY += distance / steps;
+            add(TouchEvent.POINT_MOVE);
+        }
+        return this;
+    }
+
+    /**
+     * Lift the finger.
+     *
+     * @return this replay
+     */
+    public TouchReplay up() {
+        return add(TouchEvent.PRIMARY_POINT_UP);
+    }
+
+    /**
+     * Wait before the next touch.
+     *
+     * @param millis time to wait
+     * @return this replay
+     */
+    public TouchReplay pause(long millis) {
+        mTime += millis;
+        return this;
+    }
+
+    private TouchReplay add(int action) {
+        mTouches.add(new Touch(mTime, action, mPointY));
+        return this;
+    }
+
+    /**
+     * Replay the touches into a wheel and draw it until it settled.
+     *
+     * @param picker wheel, measured and using the clock
+     * @param clock clock of the wheel
+     * @return what the replay cost
+     */
+    public Result run(WheelPicker picker, ManualWheelClock clock) {
+        Result result = new Result(mName);
+        result.listenTo(picker, clock);
+        RecordingCanvas canvas = new RecordingCanvas();
+        long start = clock.now();
+        long frameTime = start + FRAME_INTERVAL;
+        for (Touch touch : mTouches) {
+            long touchTime = start + touch.mTime;
+            for (; frameTime <= touchTime; frameTime += FRAME_INTERVAL) {
+                clock.advance(frameTime - clock.now());
+                result.drawFrame(picker, canvas);
+            }
+            clock.advance(touchTime - clock.now());
+            picker.handleTouch(touch.mAction, touch.mPointY, clock.now());
+        }
+        long releaseTime = clock.now();
+        for (; clock.hasPendingTasks() && frameTime - releaseTime <= SETTLE_TIMEOUT; frameTime += FRAME_INTERVAL) {
+            clock.advance(frameTime - clock.now());
+            result.drawFrame(picker, canvas);
+        }
+        result.finish(picker, clock, releaseTime);
+        return result;
+    }
+
+    private static final class Touch {
+        private final long mTime;
+        private final int mAction;
+        private final float mPointY;
+
+        private Touch(long time, int action, float pointY) {
+            mTime = time;
+            mAction = action;
+            mPointY = pointY;
+        }
+    }
+
+    /**
+     * Cost of one replay. Equal replays have equal results, compare them with {@link #toString()}.
+     */
+    public static final class Result implements WheelPicker.OnWheelChangeListener,
+            WheelPicker.OnItemSelectedListener {
+        private final String mName;
+
+        private ManualWheelClock mClock;
+
+        private int mFrameCount;
+        private long mSettleTime = -1;
+        private long mIdleTime = -1;
+        private int mTickCount;
+        private int mScrolledCount;
+        private int mSelectedCount;
+        private int mStateChangedCount;
+        private int mItemSelectedCount;
+        private int mPosition;
+        private boolean isSettled;
+
+        private Result(String name) {
+            mName = name;
+        }
+
+        private void listenTo(WheelPicker picker, ManualWheelClock clock) {
+            mClock = clock;
+            picker.setOnWheelChangeListener(this);
+            picker.setOnItemSelectedListener(this);
+        }
+
+        private void drawFrame(WheelPicker picker, RecordingCanvas canvas) {
+            canvas.reset();
+            picker.onDraw(picker, canvas);
+            mFrameCount++;
+        }
+
+        private void finish(WheelPicker picker, ManualWheelClock clock, long releaseTime) {
+            isSettled = !clock.hasPendingTasks();
+            mSettleTime = mIdleTime < releaseTime ? 0 : mIdleTime - releaseTime;
+            mTickCount = clock.getRunCount(picker);
+            mPosition = picker.getCurrentItemPosition();
+            picker.setOnWheelChangeListener(null);
+            picker.setOnItemSelectedListener(null);
+        }
+
+        @Override
+        public void onWheelScrolled(int offset) {
+            mScrolledCount++;
+        }
+
+        @Override
+        public void onWheelSelected(int position) {
+            mSelectedCount++;
+        }
+
+        @Override
+        public void onWheelScrollStateChanged(int state) {
+            mStateChangedCount++;
+            if (state == WheelPicker.SCROLL_STATE_IDLE) {
+                mIdleTime = mClock.now();
+            }
+        }
+
+        @Override
+        public void onItemSelected(WheelPicker picker, Object data, int position) {
+            mItemSelectedCount++;
+        }
+
+        /**
+         * Frames drawn from the first touch until the wheel settled.
+         *
+         * @return frame count
+         */
+        public int getFrameCount() {
+            return mFrameCount;
+        }
+
+        /**
+         * Time from the last touch until the wheel settled on an item.
+         *
+         * @return settle time in milliseconds, 0 if it did not move after the last touch
+         */
+        public long getSettleTime() {
+            return mSettleTime;
+        }
+
+        /**
+         * Runs of the animation loop, {@link WheelPicker#run()}.
+         *
+         * @return tick count
+         */
+        public int getTickCount() {
+            return mTickCount;
+        }
+
+        /**
+         * Calls of every listener of the wheel.
+         *
+         * @return listener invocation count
+         */
+        public int getListenerCount() {
+            return mScrolledCount + mSelectedCount + mStateChangedCount + mItemSelectedCount;
+        }
+
+        public int getPosition() {
+            return mPosition;
+        }
+
+        public boolean isSettled() {
+            return isSettled;
+        }
+
+        @Override
+        public String toString() {
+            return mName + ": frames=" + mFrameCount + ", settleMs=" + mSettleTime + ", ticks=" + mTickCount
+                    + ", listeners=" + getListenerCount() + " (scrolled=" + mScrolledCount + ", selected="
+                    + mSelectedCount + ", stateChanged=" + mStateChangedCount + ", itemSelected="
+                    + mItemSelectedCount + "), position=" + mPosition + ", settled=" + isSettled;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpickerdemo.wheelpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.itheima.wheelpicker.CylinderWheelRenderer;
+import com.itheima.wheelpicker.FlatWheelRenderer;
+import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.WheelRenderConfig;
+import com.itheima.wheelpicker.WheelRenderer;
+import ohos.aafwk.ability.delegation.AbilityDelegatorRegistry;
+import ohos.agp.render.Canvas;
+import ohos.agp.utils.Color;
+import ohos.app.Context;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draw call budgets of one WheelPicker frame per configuration.
+ * A change that adds draw calls per item fails here instead of costing frames on devices.
+ */
+public class WheelPickerDrawBudgetOhosTest {
+    private WheelPicker wheelPicker;
+
+    private RecordingCanvas canvas;
+
+    /**
+     * Items drawn per frame, the visible ones and one above and below.
+     */
+    private int drawnItemCount;
+
+    @Before
+    public void setup() {
+        Context context = AbilityDelegatorRegistry.getAbilityDelegator().getAppContext();
+        wheelPicker = new WheelPicker(context);
+        List<String> data = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            data.add("item " + i);
+        }
+        wheelPicker.setData(data);
+        // Not laid out in a window, so give the wheel a size to draw items in
+        wheelPicker.setComponentSize(400, 700);
+        wheelPicker.helperSetSelectedItemPosition(25, false);
+        canvas = new RecordingCanvas();
+        drawnItemCount = wheelPicker.getVisibleItemCount() + 2;
+    }
+
+    private void drawFrame() {
+        // The first frame measures the wheel, budgets are checked on the second
+        wheelPicker.onDraw(wheelPicker, canvas);
+        canvas.reset();
+        wheelPicker.onDraw(wheelPicker, canvas);
+        assertEquals("save and restore must be balanced: " + canvas,
+                canvas.getSaveCount(), canvas.getRestoreCount());
+    }
+
+    private void assertBudget(int drawText, int clipRect, int save, int concat, int transform, int drawRect) {
+        String frame = canvas.toString();
+        assertTrue("drawText over budget: " + frame, canvas.getDrawTextCount() <= drawText);
+        assertTrue("clipRect over budget: " + frame, canvas.getClipRectCount() <= clipRect);
+        assertTrue("save over budget: " + frame, canvas.getSaveCount() <= save);
+        assertTrue("concat over budget: " + frame, canvas.getConcatCount() <= concat);
+        assertTrue("translate over budget: " + frame, canvas.getTranslateCount() <= transform);
+        assertTrue("scale over budget: " + frame, canvas.getScaleCount() <= transform);
+        assertTrue("drawRect over budget: " + frame, canvas.getDrawRectCount() <= drawRect);
+        assertTrue("save nesting over budget: " + frame, canvas.getMaxSaveDepth() <= 1);
+    }
+
+    /**
+     * test case for the flat wheel, one clipped text per item
+     */
+    @Test
+    public void testFlatBudget() {
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, 0, 0);
+        assertTrue("items must be drawn: " + canvas, canvas.getDrawTextCount() > 0);
+    }
+
+    /**
+     * test case for the curved wheel, one matrix per item
+     */
+    @Test
+    public void testCurvedBudget() {
+        wheelPicker.setCurved(true);
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, drawnItemCount, 0, 0);
+    }
+
+    /**
+     * test case for the atmospheric wheel, alpha only, no extra calls
+     */
+    @Test
+    public void testAtmosphericBudget() {
+        wheelPicker.setAtmospheric(true);
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, 0, 0);
+    }
+
+    /**
+     * test case for the selected item color, every item is drawn inside and outside the selection
+     */
+    @Test
+    public void testSelectedItemColorBudget() {
+        wheelPicker.setSelectedItemTextColor(Color.RED.getValue());
+        drawFrame();
+        assertBudget(2 * drawnItemCount, 2 * drawnItemCount, 2 * drawnItemCount, 0, 0, 0);
+    }
+
+    /**
+     * test case for the selected item color on the curved wheel
+     */
+    @Test
+    public void testCurvedSelectedItemColorBudget() {
+        wheelPicker.setCurved(true);
+        wheelPicker.setSelectedItemTextColor(Color.RED.getValue());
+        drawFrame();
+        assertBudget(2 * drawnItemCount, 2 * drawnItemCount, 2 * drawnItemCount, 2 * drawnItemCount, 0, 0);
+    }
+
+    /**
+     * test case for the cylinder wheel, a translate and a scale per item instead of a matrix,
+     * items behind the axis are skipped
+     */
+    @Test
+    public void testCylinderBudget() {
+        wheelPicker.setRenderer(new CylinderWheelRenderer());
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, drawnItemCount, 0);
+        assertTrue("items must be drawn: " + canvas, canvas.getDrawTextCount() > 0);
+    }
+
+    /**
+     * test case for the flat wheel after the curved one, the flat renderer is back
+     */
+    @Test
+    public void testCurvedOffBudget() {
+        wheelPicker.setCurved(true);
+        drawFrame();
+        wheelPicker.setCurved(false);
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, 0, 0);
+    }
+
+    /**
+     * test case for the curtain, one rect per frame
+     */
+    @Test
+    public void testCurtainBudget() {
+        wheelPicker.setCurtain(true);
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, 0, 1);
+    }
+
+    /**
+     * test case for the indicator, two rects per frame
+     */
+    @Test
+    public void testIndicatorBudget() {
+        wheelPicker.setIndicator(true);
+        drawFrame();
+        assertBudget(drawnItemCount, drawnItemCount, drawnItemCount, 0, 0, 2);
+    }
+
+    /**
+     * test case for data and selection changes, the renderer is not configured again
+     */
+    @Test
+    public void testDataChangeKeepsRendererConfigured() {
+        CountingRenderer renderer = new CountingRenderer();
+        wheelPicker.setRenderer(renderer);
+        drawFrame();
+        int configured = renderer.mConfigureCount;
+        List<String> data = new ArrayList<>();
+        for (int i = 49; i >= 0; i--) {
+            data.add("item " + i);
+        }
+        wheelPicker.setData(data);
+        wheelPicker.helperSetSelectedItemPosition(5, false);
+        drawFrame();
+        assertEquals(configured, renderer.mConfigureCount);
+
+        wheelPicker.setItemTextColor(Color.RED.getValue());
+        drawFrame();
+        assertEquals(configured + 1, renderer.mConfigureCount);
+    }
+
+    private static final class CountingRenderer implements WheelRenderer {
+        private final WheelRenderer mRenderer = new FlatWheelRenderer();
+
+        private int mConfigureCount;
+
+        @Override
+        public int getContentHeight(int flatHeight) {
+            return mRenderer.getContentHeight(flatHeight);
+        }
+
+        @Override
+        public void configure(WheelRenderConfig config) {
+            mConfigureCount++;
+            mRenderer.configure(config);
+        }
+
+        @Override
+        public void drawItem(Canvas canvas, String text, int offsetY, float fade) {
+            mRenderer.drawItem(canvas, text, offsetY, fade);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 
 import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.widgets.WheelDayPicker;
 import ohos.aafwk.ability.delegation.AbilityDelegatorRegistry;
 import ohos.agp.components.Attr;
 import ohos.agp.components.AttrSet;
@@ -256,4 +257,13 @@ public class WheelPickerOhosTest {
         wheelPicker.helperSetSelectedItemPosition(2, false);
         assertEquals(2, wheelPicker.getSelectedItemPosition());
     }
-}
\ No newline at end of file
+
+    /**
+     * test case for postData on a date wheel, rejected where it is called
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testDayPickerRejectsPostData() throws Exception {
+        Context context = AbilityDelegatorRegistry.getAbilityDelegator().getAppContext();
+        new WheelDayPicker(context, attrSet).postData(new ArrayList<>());
+    }
+}
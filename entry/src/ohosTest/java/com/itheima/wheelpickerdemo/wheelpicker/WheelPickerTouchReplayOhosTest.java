@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpickerdemo.wheelpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.util.LogUtil;
+import ohos.aafwk.ability.delegation.AbilityDelegatorRegistry;
+import ohos.app.Context;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays recorded touch sequences into WheelPicker on a manual clock and reports frames drawn,
+ * settle time, animation ticks and listener calls per sequence in the log under the tag
+ * "TouchReplay". Every sequence is replayed twice and must give the same report, so reports are
+ * comparable across commits.
+ */
+public class WheelPickerTouchReplayOhosTest {
+    private static final String TAG = "TouchReplay";
+
+    private static final int ITEM_COUNT = 200;
+
+    private Context context;
+
+    @Before
+    public void setup() {
+        context = AbilityDelegatorRegistry.getAbilityDelegator().getAppContext();
+    }
+
+    private TouchReplay.Result replay(TouchReplay replay) {
+        WheelPicker wheelPicker = new WheelPicker(context);
+        List<String> data = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            data.add("item " + i);
+        }
+        wheelPicker.setData(data);
+        wheelPicker.setComponentSize(400, 700);
+        wheelPicker.helperSetSelectedItemPosition(ITEM_COUNT / 2, false);
+        ManualWheelClock clock = new ManualWheelClock();
+        wheelPicker.setClock(clock);
+        // Measure before the first touch
+        wheelPicker.onDraw(wheelPicker, new RecordingCanvas());
+        return replay.run(wheelPicker, clock);
+    }
+
+    private TouchReplay.Result assertReproducible(TouchReplay replay) {
+        TouchReplay.Result first = replay(replay);
+        TouchReplay.Result second = replay(replay);
+        LogUtil.info(TAG, first.toString());
+        assertEquals("replay must be deterministic", first.toString(), second.toString());
+        assertTrue("wheel must settle: " + first, first.isSettled());
+        assertTrue("position out of range: " + first, first.getPosition() >= 0 && first.getPosition() < ITEM_COUNT);
+        return first;
+    }
+
+    /**
+     * test case for a slow drag released without velocity
+     */
+    @Test
+    public void testSlowDrag() {
+        TouchReplay.Result result = assertReproducible(new TouchReplay("slowDrag")
+                .down(1000).move(-300, 150, 16).pause(100).up());
+        assertTrue("drag must move the wheel: " + result, result.getPosition() != ITEM_COUNT / 2);
+    }
+
+    /**
+     * test case for a fast fling
+     */
+    @Test
+    public void testFastFling() {
+        TouchReplay.Result result = assertReproducible(new TouchReplay("fastFling")
+                .down(1200).move(-480, 6, 10).up());
+        assertTrue("fling must animate: " + result, result.getTickCount() > 1 && result.getSettleTime() > 0);
+    }
+
+    /**
+     * test case for repeated flicks, each one catching the wheel while it still flings
+     */
+    @Test
+    public void testRepeatedFlicks() {
+        TouchReplay replay = new TouchReplay("repeatedFlicks");
+        for (int i = 0; i < 5; i++) {
+            replay.down(1000).move(-200, 4, 10).up().pause(120);
+        }
+        assertReproducible(replay);
+    }
+
+    /**
+     * test case for a fling stopped by a tap
+     */
+    @Test
+    public void testFlingInterruptedByTap() {
+        TouchReplay.Result interrupted = assertReproducible(new TouchReplay("flingInterruptedByTap")
+                .down(1200).move(-480, 6, 10).up().pause(200).down(600).up());
+        TouchReplay.Result fling = replay(new TouchReplay("fastFling").down(1200).move(-480, 6, 10).up());
+        assertTrue("tap must stop the fling early: " + interrupted,
+                interrupted.getFrameCount() < fling.getFrameCount());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per frame layout math of a wheel: the drawn positions with their offsets, as the draw loop
+ * walks them, and the snap distances of a release.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WheelLayoutBenchmark {
+    private static final int ITEM_COUNT = 1000;
+
+    private static final int ITEM_HEIGHT = 100;
+
+    @Param({"7", "15"})
+    private int visibleItemCount;
+
+    @Param({"false", "true"})
+    private boolean isCyclic;
+
+    private final WheelLayout layout = new WheelLayout();
+
+    private int scrollOffsetY;
+
+    @Setup
+    public void setup() {
+        layout.setVisibleItemCount(visibleItemCount);
+        layout.setWheelHeight(layout.getVisibleItemCount() * ITEM_HEIGHT);
+    }
+
+    /**
+     * The positions and offsets of one frame, the scroll offset moves a little every frame.
+     *
+     * @param blackhole sink
+     */
+    @Benchmark
+    public void drawnPositions(Blackhole blackhole) {
+        scrollOffsetY = (scrollOffsetY - 37) % (ITEM_COUNT * ITEM_HEIGHT);
+        int first = layout.getFirstDrawnPosition(scrollOffsetY, ITEM_COUNT / 2);
+        int halfDrawnItemCount = layout.getHalfDrawnItemCount();
+        for (int i = 0; i < layout.getDrawnItemCount(); i++) {
+            int position = first + i;
+            if (isCyclic) {
+                position = CyclicIndex.wrap(position, ITEM_COUNT);
+            } else if (position < 0 || position >= ITEM_COUNT) {
+                continue;
+            }
+            blackhole.consume(position);
+            blackhole.consume(layout.getItemOffsetY(i - halfDrawnItemCount, scrollOffsetY));
+        }
+    }
+
+    /**
+     * Snap distances over every offset of an item.
+     *
+     * @return sum of the distances
+     */
+    @Benchmark
+    public int snapDistances() {
+        int sum = 0;
+        for (int offset = -ITEM_HEIGHT; offset <= ITEM_HEIGHT; offset++) {
+            sum += layout.getDistanceToEndPoint(offset % ITEM_HEIGHT, offset);
+        }
+        return sum;
+    }
+}
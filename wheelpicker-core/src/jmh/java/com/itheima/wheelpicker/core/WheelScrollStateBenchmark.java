@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Touch handling and animation ticks of the scroll state machine, on a clock advanced by hand so
+ * every invocation replays the same gesture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WheelScrollStateBenchmark {
+    private static final int ITEM_HEIGHT = 100;
+
+    private static final int FRAME_INTERVAL = 16;
+
+    @Param({"100", "10000"})
+    private int itemCount;
+
+    @Param({"false", "true"})
+    private boolean isCyclic;
+
+    private long now;
+
+    private WheelScrollState state;
+
+    @Setup
+    public void setup() {
+        state = new WheelScrollState(new DecelerateScroller(() -> now));
+        state.getLayout().setVisibleItemCount(7);
+        state.getLayout().setWheelHeight(7 * ITEM_HEIGHT);
+        state.setCyclic(isCyclic);
+    }
+
+    private void reset() {
+        state.jumpToPosition(itemCount / 2, itemCount);
+        state.computeFlingLimits(itemCount);
+    }
+
+    /**
+     * A drag of 60 moves, one per frame, then the snap onto the nearest item.
+     *
+     * @return settled position
+     */
+    @Benchmark
+    public int dragAndSnap() {
+        reset();
+        state.onDown(1000, now);
+        for (int i = 1; i <= 60; i++) {
+            now += FRAME_INTERVAL;
+            state.onMove(1000 - 5 * i, now);
+        }
+        now += 200;
+        state.onUp(700, now);
+        return settle();
+    }
+
+    /**
+     * A fast fling ticked frame by frame until it settles.
+     *
+     * @return settled position
+     */
+    @Benchmark
+    public int flingAndSettle() {
+        reset();
+        state.onDown(1200, now);
+        for (int i = 1; i <= 6; i++) {
+            now += 10;
+            state.onMove(1200 - 80 * i, now);
+        }
+        state.onUp(720, now);
+        return settle();
+    }
+
+    private int settle() {
+        while ((state.tick(itemCount) & WheelScrollState.EVENT_MOVED) != 0) {
+            now += FRAME_INTERVAL;
+        }
+        return state.getCurrentItemPosition();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Position arithmetic of cyclic wheels, where the item after the last one is the first one again.
+ */
+public final class CyclicIndex {
+    private CyclicIndex() {
+    }
+
+    /**
+     * Map any position onto the items.
+     *
+     * @param position position, may be negative or beyond the last item
+     * @param size item count, positive
+     * @return position in [0, size)
+     */
+    public static int wrap(int position, int size) {
+        int wrapped = position % size;
+        return wrapped < 0 ? wrapped + size : wrapped;
+    }
+
+    /**
+     * Get the shortest way around the wheel from one position to another.
+     *
+     * @param from start position
+     * @param to end position
+     * @param size item count
+     * @return number of items to move, negative to move backwards
+     */
+    public static int shortestDelta(int from, int to, int size) {
+        int delta = to - from;
+        if (Math.abs(delta) > size / 2) {
+            delta += delta > 0 ? -size : size;
+        }
+        return delta;
+    }
+
+    /**
+     * Clamp a position to the items of a wheel that is not cyclic.
+     *
+     * @param position position
+     * @param size item count
+     * @return position in [0, size), 0 without items
+     */
+    public static int clamp(int position, int size) {
+        return Math.max(0, Math.min(position, size - 1));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Scroller driven by a clock, pure arithmetic on the time the clock reports so the same touches
+ * and the same clock always give the same offsets.
+ * Scrolls and flings both decelerate at a constant rate until they stop at their end.
+ */
+public final class DecelerateScroller implements WheelScroller {
+    private static final int SCROLL_DURATION = 250;
+
+    /**
+     * Deceleration of flings, in pixels per second squared.
+     */
+    private static final float DECELERATION = 4000;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    private final LongSupplier mClock;
+
+    private int mStartY;
+    private int mFinalY;
+    private int mCurrY;
+    private long mStartTime;
+    private int mDuration;
+    private boolean isFinished = true;
+
+    /**
+     * Create a scroller.
+     *
+     * @param clock current time in milliseconds
+     */
+    public DecelerateScroller(LongSupplier clock) {
+        mClock = clock;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    @Override
+    public void abortAnimation() {
+        if (!isFinished) {
+            computeScrollOffset();
+            mFinalY = mCurrY;
+            isFinished = true;
+        }
+    }
+
+    @Override
+    public void startScroll(int startY, int dy) {
+        start(startY, startY + dy, SCROLL_DURATION);
+    }
+
+    @Override
+    public void fling(int startY, int velocityY, int minY, int maxY) {
+        float velocity = Math.abs(velocityY);
+        int distance = (int) (velocity * velocity / (2 * DECELERATION));
+        int finalY = startY + (velocityY < 0 ? -distance : distance);
+        start(startY, Math.max(minY, Math.min(maxY, finalY)), (int) (MILLIS_PER_SECOND * velocity / DECELERATION));
+    }
+
+    private void start(int startY, int finalY, int duration) {
+        mStartY = startY;
+        mCurrY = startY;
+        mFinalY = finalY;
+        mDuration = duration;
+        mStartTime = mClock.getAsLong();
+        isFinished = false;
+    }
+
+    @Override
+    public int getCurrY() {
+        return mCurrY;
+    }
+
+    @Override
+    public int getFinalY() {
+        return mFinalY;
+    }
+
+    @Override
+    public void setFinalY(int finalY) {
+        mFinalY = finalY;
+        isFinished = false;
+    }
+
+    @Override
+    public boolean computeScrollOffset() {
+        if (isFinished) {
+            return false;
+        }
+        long elapsed = mClock.getAsLong() - mStartTime;
+        if (elapsed >= mDuration) {
+            mCurrY = mFinalY;
+            isFinished = true;
+        } else {
+            float remaining = 1 - elapsed / (float) mDuration;
+            mCurrY = mStartY + Math.round((mFinalY - mStartY) * (1 - remaining * remaining));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Items of a wheel as the wheel sees them, a count and the text drawn per position.
+ */
+public interface WheelDataSource {
+    /**
+     * Get the item count.
+     *
+     * @return item count
+     */
+    int size();
+
+    /**
+     * Get the text the wheel draws for an item.
+     *
+     * @param position position in [0, size())
+     * @return label
+     */
+    String getLabel(int position);
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Vertical geometry of a wheel: the item height, the items drawn per frame and where they are
+ * drawn for a scroll offset. Offsets grow when the content moves down, so the item at the center
+ * is the selected one minus the offset in items.
+ */
+public final class WheelLayout {
+    private int mVisibleItemCount;
+
+    /**
+     * The visible items and one more above and below.
+     */
+    private int mDrawnItemCount;
+    private int mHalfDrawnItemCount;
+
+    private int mItemHeight;
+    private int mHalfItemHeight;
+    private int mHalfWheelHeight;
+
+    /**
+     * Set the number of visible items, even counts are rounded up so that one item is centered.
+     *
+     * @param count visible item count, at least 2
+     */
+    public void setVisibleItemCount(int count) {
+        if (count < 2) {
+            throw new ArithmeticException("Wheel's visible item count can not be less than 2!");
+        }
+        mVisibleItemCount = count % 2 == 0 ? count + 1 : count;
+        mDrawnItemCount = mVisibleItemCount + 2;
+        mHalfDrawnItemCount = mDrawnItemCount / 2;
+    }
+
+    /**
+     * Set the height the items are drawn in, the visible items share it.
+     *
+     * @param height wheel height
+     */
+    public void setWheelHeight(int height) {
+        mHalfWheelHeight = height / 2;
+        mItemHeight = mVisibleItemCount == 0 ? 0 : height / mVisibleItemCount;
+        mHalfItemHeight = mItemHeight / 2;
+    }
+
+    public int getVisibleItemCount() {
+        return mVisibleItemCount;
+    }
+
+    public int getDrawnItemCount() {
+        return mDrawnItemCount;
+    }
+
+    public int getHalfDrawnItemCount() {
+        return mHalfDrawnItemCount;
+    }
+
+    public int getItemHeight() {
+        return mItemHeight;
+    }
+
+    public int getHalfItemHeight() {
+        return mHalfItemHeight;
+    }
+
+    public int getHalfWheelHeight() {
+        return mHalfWheelHeight;
+    }
+
+    /**
+     * Get the position, not wrapped, of the item at the center.
+     *
+     * @param scrollOffsetY scroll offset
+     * @param selectedPosition position at offset 0
+     * @return center position
+     */
+    public int getCenterPosition(int scrollOffsetY, int selectedPosition) {
+        return selectedPosition - scrollOffsetY / mItemHeight;
+    }
+
+    /**
+     * Get the position, not wrapped, of the first item drawn, the others follow it.
+     *
+     * @param scrollOffsetY scroll offset
+     * @param selectedPosition position at offset 0
+     * @return first drawn position
+     */
+    public int getFirstDrawnPosition(int scrollOffsetY, int selectedPosition) {
+        return getCenterPosition(scrollOffsetY, selectedPosition) - mHalfDrawnItemCount;
+    }
+
+    /**
+     * Get how far a drawn item is from the center.
+     *
+     * @param drawnOffset index of the item from the center, in [-half drawn count, half drawn count]
+     * @param scrollOffsetY scroll offset
+     * @return vertical distance, negative above the center
+     */
+    public int getItemOffsetY(int drawnOffset, int scrollOffsetY) {
+        return drawnOffset * mItemHeight + scrollOffsetY % mItemHeight;
+    }
+
+    /**
+     * Get the distance from an offset to the item boundary it snaps to.
+     *
+     * @param remainder part of an item the offset is past a boundary
+     * @param scrollOffsetY offset the wheel is at, its sign gives the direction of the snap
+     * @return distance to scroll
+     */
+    public int getDistanceToEndPoint(int remainder, int scrollOffsetY) {
+        if (Math.abs(remainder) > mHalfItemHeight) {
+            return scrollOffsetY < 0 ? -mItemHeight - remainder : mItemHeight - remainder;
+        }
+        return -remainder;
+    }
+
+    /**
+     * Get how far an item on the curved wheel is projected from the center.
+     *
+     * @param degree rotation of the item
+     * @return projected distance
+     */
+    public int getCurvedSpace(int degree) {
+        return (int) (Math.sin(Math.toRadians(degree)) * mHalfWheelHeight);
+    }
+}
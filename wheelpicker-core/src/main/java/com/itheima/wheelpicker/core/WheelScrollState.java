@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Scroll state machine of a wheel: the scroll offset, the selected and current positions, drags,
+ * flings and the snap onto an item. Fed with touches and ticked once per frame by the widget,
+ * which only draws at {@link #getScrollOffsetY()} and turns the returned events into listener
+ * calls, so everything here runs on a plain JVM.
+ *
+ * <p>The selected position is the one shown at offset 0, the current position is the one the
+ * wheel last settled on.
+ */
+public final class WheelScrollState {
+    /**
+     * The finger moved beyond the touch slop.
+     */
+    public static final int EVENT_DRAGGING = 1;
+
+    /**
+     * The scroll offset changed, draw a frame.
+     */
+    public static final int EVENT_MOVED = 1 << 1;
+
+    /**
+     * The finger was lifted and an animation started, tick until it settles.
+     */
+    public static final int EVENT_RELEASED = 1 << 2;
+
+    /**
+     * The release was fast enough for a fling.
+     */
+    public static final int EVENT_FLUNG = 1 << 3;
+
+    /**
+     * The wheel stands still on an item, the current position is updated.
+     */
+    public static final int EVENT_SETTLED = 1 << 4;
+
+    private static final int DEFAULT_TOUCH_SLOP = 24;
+
+    private static final int DEFAULT_MINIMUM_VELOCITY = 150;
+
+    private final WheelLayout mLayout = new WheelLayout();
+
+    private final WheelVelocityTracker mVelocityTracker = new WheelVelocityTracker();
+
+    private WheelScroller mScroller;
+
+    private boolean isCyclic;
+
+    private int mSelectedItemPosition;
+    private int mCurrentItemPosition;
+    private int mScrollOffsetY;
+
+    /**
+     * Offsets a fling may reach, unbounded on cyclic wheels.
+     */
+    private int mMinFlingY;
+    private int mMaxFlingY;
+
+    private int mTouchSlop = DEFAULT_TOUCH_SLOP;
+    private int mMinimumVelocity = DEFAULT_MINIMUM_VELOCITY;
+
+    private int mDownPointY;
+    private int mLastPointY;
+
+    /**
+     * Whether the finger stayed inside the touch slop.
+     */
+    private boolean isClick;
+
+    /**
+     * Whether the touch stopped a running animation, its release must settle the wheel.
+     */
+    private boolean isForceFinishScroll;
+
+    /**
+     * Create a state machine.
+     *
+     * @param scroller animation of flings and snaps
+     */
+    public WheelScrollState(WheelScroller scroller) {
+        setScroller(scroller);
+    }
+
+    /**
+     * Replace the scroller, a running animation is stopped.
+     *
+     * @param scroller scroller
+     */
+    public void setScroller(WheelScroller scroller) {
+        if (null == scroller) {
+            throw new NullPointerException("WheelScroller can not be null!");
+        }
+        if (null != mScroller) {
+            mScroller.abortAnimation();
+        }
+        mScroller = scroller;
+    }
+
+    public WheelLayout getLayout() {
+        return mLayout;
+    }
+
+    public boolean isCyclic() {
+        return isCyclic;
+    }
+
+    public void setCyclic(boolean isCyclic) {
+        this.isCyclic = isCyclic;
+    }
+
+    public int getSelectedItemPosition() {
+        return mSelectedItemPosition;
+    }
+
+    public void setSelectedItemPosition(int position) {
+        mSelectedItemPosition = position;
+    }
+
+    public int getCurrentItemPosition() {
+        return mCurrentItemPosition;
+    }
+
+    public void setCurrentItemPosition(int position) {
+        mCurrentItemPosition = position;
+    }
+
+    public int getScrollOffsetY() {
+        return mScrollOffsetY;
+    }
+
+    public void setScrollOffsetY(int offset) {
+        mScrollOffsetY = offset;
+    }
+
+    public void setTouchSlop(int touchSlop) {
+        mTouchSlop = touchSlop;
+    }
+
+    public void setMinimumVelocity(int minimumVelocity) {
+        mMinimumVelocity = minimumVelocity;
+    }
+
+    /**
+     * Whether no animation runs.
+     *
+     * @return true if finished
+     */
+    public boolean isFinished() {
+        return mScroller.isFinished();
+    }
+
+    /**
+     * Compute the offsets a fling may reach, after the item height, the selected position or the
+     * item count changed.
+     *
+     * @param itemCount item count
+     */
+    public void computeFlingLimits(int itemCount) {
+        int currentItemOffset = mSelectedItemPosition * mLayout.getItemHeight();
+        mMinFlingY = isCyclic ? Integer.MIN_VALUE : -mLayout.getItemHeight() * (itemCount - 1) + currentItemOffset;
+        mMaxFlingY = isCyclic ? Integer.MAX_VALUE : currentItemOffset;
+    }
+
+    public int getMinFlingY() {
+        return mMinFlingY;
+    }
+
+    public int getMaxFlingY() {
+        return mMaxFlingY;
+    }
+
+    /**
+     * A finger went down, stopping a running animation.
+     *
+     * @param pointY position
+     * @param time time in milliseconds
+     */
+    public void onDown(float pointY, long time) {
+        mVelocityTracker.clear();
+        mVelocityTracker.addMovement(time, pointY);
+        if (!mScroller.isFinished()) {
+            mScroller.abortAnimation();
+            isForceFinishScroll = true;
+        }
+        mDownPointY = (int) pointY;
+        mLastPointY = mDownPointY;
+    }
+
+    /**
+     * The finger moved.
+     *
+     * @param pointY position
+     * @param time time in milliseconds
+     * @return {@link #EVENT_DRAGGING} and {@link #EVENT_MOVED} flags, 0 inside the touch slop
+     */
+    public int onMove(float pointY, long time) {
+        if (Math.abs(mDownPointY - pointY) < mTouchSlop) {
+            isClick = true;
+            return 0;
+        }
+        isClick = false;
+        mVelocityTracker.addMovement(time, pointY);
+        float move = pointY - mLastPointY;
+        if (Math.abs(move) < 1) {
+            return EVENT_DRAGGING;
+        }
+        mScrollOffsetY += move;
+        mLastPointY = (int) pointY;
+        return EVENT_DRAGGING | EVENT_MOVED;
+    }
+
+    /**
+     * The finger was lifted, fling or snap onto the nearest item at the velocity of the tracked
+     * touch times.
+     *
+     * @param pointY position
+     * @param time time in milliseconds
+     * @return {@link #EVENT_RELEASED} and {@link #EVENT_FLUNG} flags, 0 for a click
+     */
+    public int onUp(float pointY, long time) {
+        mVelocityTracker.addMovement(time, pointY);
+        return onUp((int) mVelocityTracker.getVelocity());
+    }
+
+    /**
+     * The finger was lifted at a velocity measured elsewhere, such as by the platform.
+     *
+     * @param velocity velocity in pixels per second
+     * @return {@link #EVENT_RELEASED} and {@link #EVENT_FLUNG} flags, 0 for a click
+     */
+    public int onUp(int velocity) {
+        mVelocityTracker.clear();
+        if (isClick && !isForceFinishScroll) {
+            return 0;
+        }
+        isForceFinishScroll = false;
+        int itemHeight = mLayout.getItemHeight();
+        boolean isFling = Math.abs(velocity) > mMinimumVelocity;
+        if (isFling) {
+            mScroller.fling(mScrollOffsetY, velocity, mMinFlingY, mMaxFlingY);
+            int finalY = mScroller.getFinalY();
+            mScroller.setFinalY(finalY + mLayout.getDistanceToEndPoint(finalY % itemHeight, mScrollOffsetY));
+        } else {
+            mScroller.startScroll(mScrollOffsetY,
+                    mLayout.getDistanceToEndPoint(mScrollOffsetY % itemHeight, mScrollOffsetY));
+        }
+        if (!isCyclic) {
+            if (mScroller.getFinalY() > mMaxFlingY) {
+                mScroller.setFinalY(mMaxFlingY);
+            } else if (mScroller.getFinalY() < mMinFlingY) {
+                mScroller.setFinalY(mMinFlingY);
+            }
+        }
+        return isFling ? EVENT_RELEASED | EVENT_FLUNG : EVENT_RELEASED;
+    }
+
+    /**
+     * The touch was cancelled.
+     */
+    public void onCancel() {
+        mVelocityTracker.clear();
+    }
+
+    /**
+     * Advance the animation by one frame.
+     *
+     * @param itemCount item count
+     * @return {@link #EVENT_SETTLED} and {@link #EVENT_MOVED} flags, tick again next frame while
+     *         {@link #EVENT_MOVED} is set
+     */
+    public int tick(int itemCount) {
+        if (itemCount == 0) {
+            return 0;
+        }
+        int events = 0;
+        if (mScroller.isFinished() && !isForceFinishScroll) {
+            if (mLayout.getItemHeight() == 0) {
+                return 0;
+            }
+            int center = mLayout.getCenterPosition(mScrollOffsetY, mSelectedItemPosition);
+            mCurrentItemPosition = CyclicIndex.wrap(center, itemCount);
+            events |= EVENT_SETTLED;
+        }
+        if (mScroller.computeScrollOffset()) {
+            mScrollOffsetY = mScroller.getCurrY();
+            events |= EVENT_MOVED;
+        }
+        return events;
+    }
+
+    /**
+     * Animate to a position from the current one, the short way around on cyclic wheels.
+     *
+     * @param position target position
+     * @param itemCount item count
+     * @return true if an animation started, tick until it settles
+     */
+    public boolean scrollToPosition(int position, int itemCount) {
+        int itemDiff = position - mCurrentItemPosition;
+        if (itemDiff == 0) {
+            return false;
+        }
+        if (isCyclic) {
+            itemDiff = CyclicIndex.shortestDelta(mCurrentItemPosition, position, itemCount);
+        }
+        mScroller.startScroll(mScroller.getCurrY(), -itemDiff * mLayout.getItemHeight());
+        return true;
+    }
+
+    /**
+     * Show a position at once, stopping a running animation.
+     *
+     * @param position target position, clamped to the items
+     * @param itemCount item count
+     */
+    public void jumpToPosition(int position, int itemCount) {
+        if (!mScroller.isFinished()) {
+            mScroller.abortAnimation();
+        }
+        position = CyclicIndex.clamp(position, itemCount);
+        mSelectedItemPosition = position;
+        mCurrentItemPosition = position;
+        mScrollOffsetY = 0;
+    }
+
+    /**
+     * Get the position of the item at the center, taking an unfinished drag into account.
+     *
+     * @param itemCount item count
+     * @return center position in [0, itemCount)
+     */
+    public int getCenterItemPosition(int itemCount) {
+        if (mLayout.getItemHeight() == 0) {
+            return CyclicIndex.clamp(mCurrentItemPosition, itemCount);
+        }
+        int center = mLayout.getCenterPosition(mScrollOffsetY, mSelectedItemPosition);
+        return isCyclic ? CyclicIndex.wrap(center, itemCount) : CyclicIndex.clamp(center, itemCount);
+    }
+
+    /**
+     * Make the item now at a position the one at the center without moving the content, after
+     * items were inserted or removed before it. The part of an item the user may be dragging is
+     * kept, the whole items are dropped.
+     *
+     * @param position new position of the center item
+     * @return false if an animation runs, the caller must jump to the position instead
+     */
+    public boolean keepCenterItem(int position) {
+        if (!mScroller.isFinished()) {
+            return false;
+        }
+        int itemHeight = mLayout.getItemHeight();
+        mScrollOffsetY = itemHeight == 0 ? 0 : mScrollOffsetY % itemHeight;
+        mSelectedItemPosition = position;
+        mCurrentItemPosition = position;
+        return true;
+    }
+}
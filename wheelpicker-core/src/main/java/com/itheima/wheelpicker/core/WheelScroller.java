@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Vertical scroll animation of a wheel. The wheel polls {@link #computeScrollOffset()} once per
+ * frame and draws at {@link #getCurrY()}.
+ */
+public interface WheelScroller {
+    boolean isFinished();
+
+    /**
+     * Stop the animation where it is.
+     */
+    void abortAnimation();
+
+    /**
+     * Scroll by a distance.
+     *
+     * @param startY start offset
+     * @param dy distance
+     */
+    void startScroll(int startY, int dy);
+
+    /**
+     * Fling with a velocity, stopping inside the limits.
+     *
+     * @param startY start offset
+     * @param velocityY velocity in pixels per second
+     * @param minY lower limit
+     * @param maxY upper limit
+     */
+    void fling(int startY, int velocityY, int minY, int maxY);
+
+    int getCurrY();
+
+    int getFinalY();
+
+    /**
+     * Move the end of the running animation, for example to stop a fling on an item.
+     *
+     * @param finalY end offset
+     */
+    void setFinalY(int finalY);
+
+    /**
+     * Advance the animation to the current time.
+     *
+     * @return true if the animation was running
+     */
+    boolean computeScrollOffset();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+/**
+ * Vertical velocity of a drag, the least squares slope of the latest touch positions.
+ * Works on the times it is given, so replayed touches give the same velocity on every run.
+ */
+public final class WheelVelocityTracker {
+    private static final int MAX_SAMPLES = 20;
+
+    /**
+     * Samples older than this before the latest one are ignored, in milliseconds.
+     */
+    private static final long HORIZON = 100;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    private final long[] mTimes = new long[MAX_SAMPLES];
+
+    private final float[] mPositions = new float[MAX_SAMPLES];
+
+    private int mNext;
+    private int mSize;
+
+    public void clear() {
+        mNext = 0;
+        mSize = 0;
+    }
+
+    public void addMovement(long time, float y) {
+        mTimes[mNext] = time;
+        mPositions[mNext] = y;
+        mNext = (mNext + 1) % MAX_SAMPLES;
+        mSize = Math.min(mSize + 1, MAX_SAMPLES);
+    }
+
+    /**
+     * Get the velocity.
+     *
+     * @return velocity in pixels per second, 0 with less than two recent samples
+     */
+    public float getVelocity() {
+        if (mSize < 2) {
+            return 0;
+        }
+        long latest = mTimes[(mNext - 1 + MAX_SAMPLES) % MAX_SAMPLES];
+        int count = 0;
+        double sumTime = 0;
+        double sumPosition = 0;
+        for (int i = 0; i < mSize; i++) {
+            int slot = (mNext - 1 - i + MAX_SAMPLES) % MAX_SAMPLES;
+            if (latest - mTimes[slot] > HORIZON) {
+                break;
+            }
+            sumTime += mTimes[slot] - latest;
+            sumPosition += mPositions[slot];
+            count++;
+        }
+        if (count < 2) {
+            return 0;
+        }
+        double meanTime = sumTime / count;
+        double meanPosition = sumPosition / count;
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = (mNext - 1 - i + MAX_SAMPLES) % MAX_SAMPLES;
+            double time = mTimes[slot] - latest - meanTime;
+            covariance += time * (mPositions[slot] - meanPosition);
+            variance += time * time;
+        }
+        return variance == 0 ? 0 : (float) (covariance / variance * MILLIS_PER_SECOND);
+    }
+}
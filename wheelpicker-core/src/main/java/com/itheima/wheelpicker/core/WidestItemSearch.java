@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker.core;
+
+import java.util.List;
+
+/**
+ * Finds the widest item of a wheel by measuring every item, the fallback when the data gives no
+ * hint about its widest text.
+ */
+public final class WidestItemSearch {
+    private WidestItemSearch() {
+    }
+
+    /**
+     * Measure every item.
+     *
+     * @param items items, measured as {@link String#valueOf(Object)}
+     * @param measurer measurer
+     * @param knownWidths widths of items measured before, -1 for items to measure, or null
+     * @param widths receives the width of every item, at least as long as the items
+     * @return widest width, 0 without items
+     */
+    public static int measure(List<?> items, TextMeasurer measurer, int[] knownWidths, int[] widths) {
+        int maxWidth = 0;
+        int position = 0;
+        for (Object item : items) {
+            int width = null != knownWidths && knownWidths[position] >= 0 ? knownWidths[position]
+                    : (int) measurer.measureText(String.valueOf(item));
+            widths[position++] = width;
+            maxWidth = Math.max(maxWidth, width);
+        }
+        return maxWidth;
+    }
+}
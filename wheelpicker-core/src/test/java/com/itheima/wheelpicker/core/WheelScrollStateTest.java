@@ -0,0 +1,121 @@
+package com.itheima.wheelpicker.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WheelScrollStateTest {
+    private static final int ITEM_COUNT = 100;
+
+    private static final int ITEM_HEIGHT = 100;
+
+    private long now;
+
+    private WheelScrollState state;
+
+    @Before
+    public void setup() {
+        state = new WheelScrollState(new DecelerateScroller(() -> now));
+        state.getLayout().setVisibleItemCount(7);
+        state.getLayout().setWheelHeight(7 * ITEM_HEIGHT);
+        state.jumpToPosition(50, ITEM_COUNT);
+        state.computeFlingLimits(ITEM_COUNT);
+    }
+
+    private int release(float fromY, float distance, int steps) {
+        state.onDown(fromY, now);
+        for (int i = 1; i <= steps; i++) {
+            now += 10;
+            state.onMove(fromY + distance * i / steps, now);
+        }
+        return state.onUp(fromY + distance, now);
+    }
+
+    private int settle() {
+        int ticks = 0;
+        while ((state.tick(ITEM_COUNT) & WheelScrollState.EVENT_MOVED) != 0) {
+            now += 16;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    @Test
+    public void flingSettlesOnItem() {
+        int events = release(1000, -400, 5);
+        assertEquals(WheelScrollState.EVENT_RELEASED | WheelScrollState.EVENT_FLUNG, events);
+        assertTrue(settle() > 1);
+        assertEquals(0, state.getScrollOffsetY() % ITEM_HEIGHT);
+        assertEquals(50 - state.getScrollOffsetY() / ITEM_HEIGHT, state.getCurrentItemPosition());
+        assertTrue(state.getCurrentItemPosition() > 50);
+    }
+
+    @Test
+    public void shortFlingSnapsMidList() {
+        int events = release(1000, -130, 5);
+        assertEquals(WheelScrollState.EVENT_RELEASED | WheelScrollState.EVENT_FLUNG, events);
+        assertTrue(state.getScrollOffsetY() % ITEM_HEIGHT != 0);
+        settle();
+        assertEquals(0, state.getScrollOffsetY() % ITEM_HEIGHT);
+        int position = state.getCurrentItemPosition();
+        assertEquals(50 - state.getScrollOffsetY() / ITEM_HEIGHT, position);
+        assertTrue(position > 51 && position < ITEM_COUNT - 1);
+    }
+
+    @Test
+    public void flingStopsAtLastItem() {
+        release(1000, -4000, 5);
+        settle();
+        assertEquals(ITEM_COUNT - 1, state.getCurrentItemPosition());
+    }
+
+    @Test
+    public void cyclicFlingWraps() {
+        state.setCyclic(true);
+        state.computeFlingLimits(ITEM_COUNT);
+        release(1000, -4000, 5);
+        settle();
+        int expected = CyclicIndex.wrap(50 - state.getScrollOffsetY() / ITEM_HEIGHT, ITEM_COUNT);
+        assertEquals(expected, state.getCurrentItemPosition());
+    }
+
+    @Test
+    public void clickIsNotReleased() {
+        assertEquals(0, release(1000, 10, 2));
+        assertEquals(0, state.getScrollOffsetY());
+    }
+
+    @Test
+    public void slowDragSnaps() {
+        state.onDown(1000, now);
+        for (int i = 1; i <= 20; i++) {
+            now += 100;
+            state.onMove(1000 - 7 * i, now);
+        }
+        now += 200;
+        assertEquals(WheelScrollState.EVENT_RELEASED, state.onUp(860, now));
+        settle();
+        assertEquals(-100, state.getScrollOffsetY());
+        assertEquals(51, state.getCurrentItemPosition());
+    }
+
+    @Test
+    public void scrollToPositionTakesShortestWay() {
+        state.setCyclic(true);
+        state.jumpToPosition(10, ITEM_COUNT);
+        assertTrue(state.scrollToPosition(95, ITEM_COUNT));
+        settle();
+        assertEquals(95, state.getCurrentItemPosition());
+        assertEquals(15 * ITEM_HEIGHT, state.getScrollOffsetY());
+    }
+
+    @Test
+    public void cyclicIndex() {
+        assertEquals(99, CyclicIndex.wrap(-1, 100));
+        assertEquals(0, CyclicIndex.wrap(200, 100));
+        assertEquals(-3, CyclicIndex.shortestDelta(1, 98, 100));
+        assertEquals(0, CyclicIndex.clamp(-5, 0));
+    }
+}
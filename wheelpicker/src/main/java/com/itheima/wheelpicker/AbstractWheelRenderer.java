@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Canvas;
+import ohos.agp.render.Paint;
+import ohos.agp.utils.Color;
+import ohos.agp.utils.Rect;
+import ohos.agp.utils.RectFloat;
+
+/**
+ * Base renderer that keeps the configuration every look needs and colors the items.
+ * Colors and alpha factors are resolved once per configuration, drawing an item only sets them.
+ */
+public abstract class AbstractWheelRenderer implements WheelRenderer {
+    private static final float MAX_COLOR_COMPONENT = 255F;
+
+    private final Rect mRectDrawn = new Rect();
+
+    private final Rect mRectCurrentItem = new Rect();
+
+    private RectFloat mRectFloatCurrentItem;
+
+    private Paint mPaint;
+
+    private Color mItemTextColor;
+    private Color mSelectedItemTextColor;
+
+    private float mItemTextAlpha;
+    private float mSelectedItemTextAlpha;
+
+    /**
+     * Alpha lost per pixel away from the center, 0 without the atmospheric effect.
+     */
+    private float mAtmosphericSlope;
+
+    private boolean hasSelectedItemTextColor;
+
+    @Override
+    public final void configure(WheelRenderConfig config) {
+        Rect drawn = config.getDrawnRect();
+        mRectDrawn.set(drawn.left, drawn.top, drawn.right, drawn.bottom);
+        Rect current = config.getCurrentItemRect();
+        mRectCurrentItem.set(current.left, current.top, current.right, current.bottom);
+        mRectFloatCurrentItem = new RectFloat(mRectCurrentItem);
+        mPaint = config.getPaint();
+
+        mItemTextColor = new Color(config.getItemTextColor());
+        mItemTextAlpha = (config.getItemTextColor() >>> 24) / MAX_COLOR_COMPONENT;
+        hasSelectedItemTextColor = config.getSelectedItemTextColor() != -1;
+        mSelectedItemTextColor = new Color(config.getSelectedItemTextColor());
+        mSelectedItemTextAlpha = (config.getSelectedItemTextColor() >>> 24) / MAX_COLOR_COMPONENT;
+
+        // Items fade out linearly from the center to the top of the wheel
+        mAtmosphericSlope = config.hasAtmospheric() && config.getDrawnCenterY() > 0
+                ? 1F / config.getDrawnCenterY() : 0;
+        onConfigure(config);
+    }
+
+    /**
+     * Prepare the look, called by {@link #configure(WheelRenderConfig)} once the common
+     * configuration is kept.
+     *
+     * @param config configuration of the wheel, only valid during the call
+     */
+    protected abstract void onConfigure(WheelRenderConfig config);
+
+    /**
+     * Draws one item, the renderers pick the one matching the configuration in
+     * {@link #onConfigure(WheelRenderConfig)} instead of testing it for every item.
+     */
+    protected interface ItemDrawer {
+        void draw(Canvas canvas, String text, int offsetY, float fade);
+    }
+
+    protected final Paint getPaint() {
+        return mPaint;
+    }
+
+    protected final Rect getDrawnRect() {
+        return mRectDrawn;
+    }
+
+    protected final Rect getCurrentItemRect() {
+        return mRectCurrentItem;
+    }
+
+    /**
+     * Get the region of the selected item, to clip it out.
+     *
+     * @return current item rect
+     */
+    protected final RectFloat getCurrentItemRectFloat() {
+        return mRectFloatCurrentItem;
+    }
+
+    /**
+     * Whether the selected item is drawn in its own color, inside and outside of its region.
+     *
+     * @return true if there is a selected item text color
+     */
+    protected final boolean hasSelectedItemTextColor() {
+        return hasSelectedItemTextColor;
+    }
+
+    /**
+     * Set the item color to the paint, faded by the atmospheric effect.
+     *
+     * @param offsetY distance of the item from the center of the flat wheel
+     * @param fade alpha factor of the item
+     */
+    protected final void applyItemTextColor(int offsetY, float fade) {
+        mPaint.setColor(mItemTextColor);
+        mPaint.setAlpha(Math.max(0, 1 - Math.abs(offsetY) * mAtmosphericSlope) * mItemTextAlpha * fade);
+    }
+
+    /**
+     * Set the selected item color to the paint.
+     *
+     * @param fade alpha factor of the item
+     */
+    protected final void applySelectedItemTextColor(float fade) {
+        mPaint.setColor(mSelectedItemTextColor);
+        mPaint.setAlpha(mSelectedItemTextAlpha * fade);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Canvas;
+import ohos.agp.render.ThreeDimView;
+import ohos.agp.utils.Matrix;
+
+/**
+ * Renderer of the curved wheel, used when {@link WheelPicker#setCurved(boolean)} is on. Items
+ * rotate around the horizontal axis and bend towards the ends, up to 90 degrees at the top and
+ * the bottom of the wheel.
+ * The projection of every offset an item can be drawn at is computed once per configuration,
+ * the rotation matrix of an offset when it is first drawn.
+ */
+public final class CurvedWheelRenderer extends AbstractWheelRenderer {
+    private static final float MAX_DEGREE = 90;
+
+    private ItemDrawer mDrawer;
+
+    private int mDrawnCenterX;
+    private int mDrawnCenterY;
+    private int mWheelCenterY;
+
+    /**
+     * Largest distance from the center an item is drawn at, the tables cover [-max, max].
+     */
+    private int mMaxOffset;
+
+    /**
+     * Rotation and projected distance from the center, per offset.
+     */
+    private float[] mDegrees;
+    private int[] mDistances;
+
+    /**
+     * Rotation matrices per offset, built on first use.
+     */
+    private Matrix[] mMatrices;
+
+    @Override
+    public int getContentHeight(int flatHeight) {
+        return (int) (2 * flatHeight / Math.PI);
+    }
+
+    @Override
+    protected void onConfigure(WheelRenderConfig config) {
+        mDrawnCenterX = config.getDrawnCenterX();
+        mDrawnCenterY = config.getDrawnCenterY();
+        mWheelCenterY = config.getWheelCenterY();
+        mMaxOffset = (config.getHalfDrawnItemCount() + 1) * config.getItemHeight();
+        int size = 2 * mMaxOffset + 1;
+        mDegrees = new float[size];
+        mDistances = new int[size];
+        mMatrices = new Matrix[size];
+
+        float span = Math.max(1, config.getDrawnCenterY() - config.getDrawnRect().top);
+        for (int i = 0; i < size; i++) {
+            float degree = -(i - mMaxOffset) * MAX_DEGREE / span;
+            degree = Math.max(-MAX_DEGREE, Math.min(MAX_DEGREE, degree));
+            mDegrees[i] = degree;
+            mDistances[i] = (int) (Math.sin(Math.toRadians((int) degree)) * config.getHalfWheelHeight());
+        }
+        mDrawer = hasSelectedItemTextColor() ? this::drawTwoColors : this::drawOneColor;
+    }
+
+    @Override
+    public void drawItem(Canvas canvas, String text, int offsetY, float fade) {
+        mDrawer.draw(canvas, text, offsetY, fade);
+    }
+
+    private int getIndex(int offsetY) {
+        return Math.max(0, Math.min(mDegrees.length - 1, offsetY + mMaxOffset));
+    }
+
+    private Matrix getMatrix(int index) {
+        Matrix matrix = mMatrices[index];
+        if (null == matrix) {
+            ThreeDimView threeDimView = new ThreeDimView();
+            threeDimView.rotateX(mDegrees[index]);
+            matrix = new Matrix();
+            threeDimView.getMatrix(matrix);
+            int transY = mWheelCenterY - mDistances[index];
+            matrix.preTranslate(-mDrawnCenterX, -transY);
+            matrix.postTranslate(mDrawnCenterX, transY);
+            mMatrices[index] = matrix;
+        }
+        return matrix;
+    }
+
+    private void drawOneColor(Canvas canvas, String text, int offsetY, float fade) {
+        int index = getIndex(offsetY);
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.clipRect(getDrawnRect());
+        canvas.concat(getMatrix(index));
+        canvas.drawText(getPaint(), text, mDrawnCenterX, mDrawnCenterY - mDistances[index]);
+        canvas.restore();
+    }
+
+    private void drawTwoColors(Canvas canvas, String text, int offsetY, float fade) {
+        int index = getIndex(offsetY);
+        Matrix matrix = getMatrix(index);
+        float y = mDrawnCenterY - mDistances[index];
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.concat(matrix);
+        canvas.clipRect(getCurrentItemRectFloat(), Canvas.ClipOp.DIFFERENCE);
+        canvas.drawText(getPaint(), text, mDrawnCenterX, y);
+        canvas.restore();
+
+        applySelectedItemTextColor(fade);
+        canvas.save();
+        canvas.concat(matrix);
+        canvas.clipRect(getCurrentItemRect());
+        canvas.drawText(getPaint(), text, mDrawnCenterX, y);
+        canvas.restore();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Canvas;
+
+/**
+ * Renderer that draws the items on a cylinder seen in perspective, like a physical wheel.
+ * An item's offset is its arc on the cylinder, the visible items cover its front half. Items
+ * shrink vertically as they turn away and in both directions as they move back, towards the
+ * horizontal center of the wheel. Not chosen by {@link WheelPicker#setCurved(boolean)}, set it
+ * with {@link WheelPicker#setRenderer(WheelRenderer)}.
+ * The projection of every offset an item can be drawn at is computed once per configuration.
+ */
+public final class CylinderWheelRenderer extends AbstractWheelRenderer {
+    /**
+     * Default distance from the camera to the front of the cylinder, in radii.
+     */
+    public static final float DEFAULT_CAMERA_DISTANCE = 4;
+
+    private final float mCameraDistance;
+
+    private ItemDrawer mDrawer;
+
+    private int mWheelCenterX;
+    private int mWheelCenterY;
+
+    /**
+     * Text position relative to the wheel center, before the projection.
+     */
+    private float mTextX;
+    private float mTextY;
+
+    /**
+     * Largest distance from the center an item is drawn at, the tables cover [-max, max].
+     */
+    private int mMaxOffset;
+
+    /**
+     * Projected distance from the center and scales, per offset. A vertical scale of 0 marks
+     * offsets behind the axis of the cylinder, which are not drawn.
+     */
+    private float[] mProjectedY;
+    private float[] mScaleX;
+    private float[] mScaleY;
+
+    public CylinderWheelRenderer() {
+        this(DEFAULT_CAMERA_DISTANCE);
+    }
+
+    /**
+     * Create a renderer.
+     *
+     * @param cameraDistance distance from the camera to the front of the cylinder, in radii,
+     *     smaller distances give a stronger perspective
+     */
+    public CylinderWheelRenderer(float cameraDistance) {
+        if (!(cameraDistance > 0)) {
+            throw new IllegalArgumentException("Camera distance must be positive, but current is " + cameraDistance);
+        }
+        mCameraDistance = cameraDistance;
+    }
+
+    public float getCameraDistance() {
+        return mCameraDistance;
+    }
+
+    @Override
+    public int getContentHeight(int flatHeight) {
+        return (int) (2 * flatHeight / Math.PI);
+    }
+
+    @Override
+    protected void onConfigure(WheelRenderConfig config) {
+        mWheelCenterX = config.getWheelCenterX();
+        mWheelCenterY = config.getWheelCenterY();
+        mTextX = config.getDrawnCenterX() - mWheelCenterX;
+        mTextY = config.getDrawnCenterY() - mWheelCenterY;
+        mMaxOffset = (config.getHalfDrawnItemCount() + 1) * config.getItemHeight();
+        int size = 2 * mMaxOffset + 1;
+        mProjectedY = new float[size];
+        mScaleX = new float[size];
+        mScaleY = new float[size];
+
+        // The half wheel height is a quarter turn of the cylinder
+        double radius = Math.max(1, config.getHalfWheelHeight());
+        double camera = mCameraDistance * radius;
+        for (int i = 0; i < size; i++) {
+            double angle = (i - mMaxOffset) * Math.PI / 2 / radius;
+            double cos = Math.cos(angle);
+            if (cos <= 0) {
+                continue;
+            }
+            double scale = camera / (camera + radius * (1 - cos));
+            mProjectedY[i] = (float) (Math.sin(angle) * radius * scale);
+            mScaleX[i] = (float) scale;
+            mScaleY[i] = (float) (cos * scale);
+        }
+        mDrawer = hasSelectedItemTextColor() ? this::drawTwoColors : this::drawOneColor;
+    }
+
+    @Override
+    public void drawItem(Canvas canvas, String text, int offsetY, float fade) {
+        mDrawer.draw(canvas, text, offsetY, fade);
+    }
+
+    private int getIndex(int offsetY) {
+        return Math.max(0, Math.min(mScaleY.length - 1, offsetY + mMaxOffset));
+    }
+
+    private void project(Canvas canvas, int index) {
+        canvas.translate(mWheelCenterX, mWheelCenterY + mProjectedY[index]);
+        canvas.scale(mScaleX[index], mScaleY[index]);
+    }
+
+    private void drawOneColor(Canvas canvas, String text, int offsetY, float fade) {
+        int index = getIndex(offsetY);
+        if (mScaleY[index] == 0) {
+            return;
+        }
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.clipRect(getDrawnRect());
+        project(canvas, index);
+        canvas.drawText(getPaint(), text, mTextX, mTextY);
+        canvas.restore();
+    }
+
+    private void drawTwoColors(Canvas canvas, String text, int offsetY, float fade) {
+        int index = getIndex(offsetY);
+        if (mScaleY[index] == 0) {
+            return;
+        }
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.clipRect(getCurrentItemRectFloat(), Canvas.ClipOp.DIFFERENCE);
+        project(canvas, index);
+        canvas.drawText(getPaint(), text, mTextX, mTextY);
+        canvas.restore();
+
+        applySelectedItemTextColor(fade);
+        canvas.save();
+        canvas.clipRect(getCurrentItemRect());
+        project(canvas, index);
+        canvas.drawText(getPaint(), text, mTextX, mTextY);
+        canvas.restore();
+    }
+}
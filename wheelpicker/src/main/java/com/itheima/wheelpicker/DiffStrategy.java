@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+import java.util.Objects;
+
+/**
+ * How {@link WheelPicker#setData(java.util.List, DiffStrategy)} matches the items of the old and
+ * the new data.
+ */
+public interface DiffStrategy {
+    /**
+     * Items are the same if they are equal, up to 256 inserted or removed items are diffed.
+     */
+    DiffStrategy DEFAULT = new DiffStrategy() {
+        @Override
+        public boolean isSameItem(Object oldItem, Object newItem) {
+            return Objects.equals(oldItem, newItem);
+        }
+
+        @Override
+        public int getMaxEditCount() {
+            return 256;
+        }
+    };
+
+    /**
+     * Whether an old item and a new item are the same item.
+     *
+     * @param oldItem item of the old data
+     * @param newItem item of the new data
+     * @return true if the items are the same
+     */
+    boolean isSameItem(Object oldItem, Object newItem);
+
+    /**
+     * Get the largest number of inserted plus removed items worth diffing.
+     * The diff costs about the data size times this bound, larger changes are treated as a new data set.
+     *
+     * @return maximum edit count
+     */
+    int getMaxEditCount();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Canvas;
+
+/**
+ * Renderer of the flat wheel, the default one. Drawing an item is a clipped text, positioned by
+ * its offset only.
+ */
+public final class FlatWheelRenderer extends AbstractWheelRenderer {
+    private ItemDrawer mDrawer;
+
+    private int mDrawnCenterX;
+    private int mDrawnCenterY;
+
+    @Override
+    public int getContentHeight(int flatHeight) {
+        return flatHeight;
+    }
+
+    @Override
+    protected void onConfigure(WheelRenderConfig config) {
+        mDrawnCenterX = config.getDrawnCenterX();
+        mDrawnCenterY = config.getDrawnCenterY();
+        mDrawer = hasSelectedItemTextColor() ? this::drawTwoColors : this::drawOneColor;
+    }
+
+    @Override
+    public void drawItem(Canvas canvas, String text, int offsetY, float fade) {
+        mDrawer.draw(canvas, text, offsetY, fade);
+    }
+
+    private void drawOneColor(Canvas canvas, String text, int offsetY, float fade) {
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.clipRect(getDrawnRect());
+        canvas.drawText(getPaint(), text, mDrawnCenterX, mDrawnCenterY + offsetY);
+        canvas.restore();
+    }
+
+    private void drawTwoColors(Canvas canvas, String text, int offsetY, float fade) {
+        float y = mDrawnCenterY + offsetY;
+        applyItemTextColor(offsetY, fade);
+        canvas.save();
+        canvas.clipRect(getCurrentItemRectFloat(), Canvas.ClipOp.DIFFERENCE);
+        canvas.drawText(getPaint(), text, mDrawnCenterX, y);
+        canvas.restore();
+
+        applySelectedItemTextColor(fade);
+        canvas.save();
+        canvas.clipRect(getCurrentItemRect());
+        canvas.drawText(getPaint(), text, mDrawnCenterX, y);
+        canvas.restore();
+    }
+}
@@ -31,4 +31,47 @@ public interface IDebug {
      * @param isDebug Whether it is debug mode
      */
     void setDebug(boolean isDebug);
+
+    /**
+     * Enable or disable recording of {@link WheelMetrics}.
+     * Recording only increments counters of fixed size histograms and may stay enabled in release
+     * builds, metrics recorded so far are kept while disabled.
+     *
+     * @param isEnabled Whether metrics are recorded
+     */
+    void setMetricsEnabled(boolean isEnabled);
+
+    /**
+     * Whether metrics are recorded.
+     *
+     * @return true if enabled
+     */
+    boolean isMetricsEnabled();
+
+    /**
+     * Get the metrics recorded so far.
+     *
+     * @return Metrics
+     */
+    WheelMetrics getMetrics();
+
+    /**
+     * Clear the metrics recorded so far.
+     */
+    void resetMetrics();
+
+    /**
+     * Enable or disable touch to pixel latency tracing of drags, see {@link WheelLatencyTrace}.
+     * Meant for measurements, every drag move is timestamped while enabled.
+     *
+     * @param isEnabled Whether drags are traced
+     */
+    void setLatencyTracingEnabled(boolean isEnabled);
+
+    /**
+     * Get the latency trace, its percentiles and {@link WheelLatencyTrace#dump()}.
+     *
+     * @return Latency trace
+     */
+    WheelLatencyTrace getLatencyTrace();
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+/**
+ * Optional interface for data lists that can compute the position of a value directly,
+ * for example a range of numbers.
+ * When the list given to {@link WheelPicker#setData(java.util.List)} implements it,
+ * {@link IWheelPicker#getPositionOf(Object)} asks the list instead of building a value map.
+ */
+public interface IPositionResolver {
+    /**
+     * Get the position of a value.
+     *
+     * @param value value to look for
+     * @return position of the value, -1 if the list does not hold it
+     */
+    int resolvePosition(Object value);
+}
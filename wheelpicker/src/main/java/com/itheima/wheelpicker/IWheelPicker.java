@@ -16,6 +16,7 @@
 
 package com.itheima.wheelpicker;
 
+import com.itheima.wheelpicker.search.WheelSearchIndex;
 import java.util.List;
 import ohos.agp.text.Font;
 
@@ -137,6 +138,17 @@ public interface IWheelPicker {
      */
     void setData(List<String> data);
 
+    /**
+     * Set data source of WheelPicker, keeping what the old and the new data have in common.
+     * Unlike {@link #setData(List)} the selected item stays selected if the new data still has it,
+     * otherwise the position where it was is selected. Items in both data keep their measured
+     * width, and new items in view fade in.
+     *
+     * @param data Datasheets
+     * @param strategy How items are matched, for example {@link DiffStrategy#DEFAULT}
+     */
+    void setData(List<String> data, DiffStrategy strategy);
+
     /**
      * Set items of WheelPicker if has same width.
      * WheelPicker will traverse the data source to calculate each data text width to find out the
@@ -413,4 +425,101 @@ public interface IWheelPicker {
      * @param tf Font object
      */
     void setTypeface(Font tf);
-}
\ No newline at end of file
+
+    /**
+     * Apply a style, the text size, colors, indicator, curtain, curved, atmospheric, font and
+     * alignment of the style replace the current ones with a single layout pass.
+     *
+     * @param style Wheel style
+     */
+    void setWheelStyle(WheelStyle style);
+
+    /**
+     * Get the style applied last, the setters of single values are not reflected in it.
+     *
+     * @return Wheel style, or null if no style was applied
+     */
+    WheelStyle getWheelStyle();
+
+    /**
+     * Start an edit, setters called until the matching {@link #commit()} only record their values.
+     * Text metrics, geometry and fling limits are then recomputed once, with one layout pass.
+     * Edits may be nested, the work is done when the outermost one is committed.
+     */
+    void beginUpdate();
+
+    /**
+     * Finish an edit started by {@link #beginUpdate()}.
+     *
+     * @throws IllegalStateException if no edit is open
+     */
+    void commit();
+
+    /**
+     * Get the position of a value in the data source.
+     * The first call after {@link #setData(List)} builds a value to position map, later calls are
+     * constant time. Data that computes positions itself, such as a number range, is asked directly.
+     *
+     * @param value Value to look for, compared with equals
+     * @return Position of the value, -1 if the data source does not hold it
+     */
+    int getPositionOf(Object value);
+
+    /**
+     * Select the item holding a value, see {@link #setSelectedItemPosition(int)}.
+     * Nothing happens if the data source does not hold the value.
+     *
+     * @param value Value to select, compared with equals
+     */
+    void setSelectedItem(Object value);
+
+    /**
+     * Set the data source from any thread, the wheel takes it over on the main thread.
+     * If data is posted several times before that, only the latest is set.
+     *
+     * @param data Data source
+     */
+    void postData(List data);
+
+    /**
+     * Select an item from any thread without animation, applied on the main thread after data
+     * posted before it.
+     *
+     * @param position Position of the item
+     */
+    void postSelectedItemPosition(int position);
+
+    /**
+     * Smoothly scroll to the first item whose text starts with the query.
+     * Chinese items also match the prefix of their pinyin initials, for example "gd" matches
+     * "广东". The search index is built in the background on first use and rebuilt after
+     * {@link #setData(List)}, the scroll happens once it is ready.
+     * Nothing happens if no item matches or the index can not be built.
+     *
+     * @param query Text prefix or pinyin initials, case insensitive
+     */
+    void scrollToMatch(String query);
+
+    /**
+     * Get the search index of the current data.
+     * If it is not built yet, building starts in the background and null is returned.
+     *
+     * @return Search index, or null while it is being built
+     */
+    WheelSearchIndex getSearchIndex();
+
+    /**
+     * Set whether Chinese items are also indexed by their pinyin initials.
+     * By default pinyin initials are indexed.
+     *
+     * @param hasPinyinInitials Whether to index pinyin initials
+     */
+    void setSearchPinyinInitials(boolean hasPinyinInitials);
+
+    /**
+     * Whether Chinese items are also indexed by their pinyin initials.
+     *
+     * @return True if pinyin initials are indexed
+     */
+    boolean hasSearchPinyinInitials();
+}
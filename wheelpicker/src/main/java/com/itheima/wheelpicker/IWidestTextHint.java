@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+/**
+ * Optional interface for data lists that already know their widest item.
+ * When the list given to {@link WheelPicker#setData(java.util.List)} implements it, the picker
+ * measures only that item instead of every item in the list.
+ * Explicit settings such as {@link IWheelPicker#setMaximumWidthText(String)} still take priority.
+ *
+ * <p>Lists usually pick the item without measuring, for example by counting characters, so the hint
+ * is only as good as that guess. If another item is drawn wider, it is clipped by the wheel.
+ */
+public interface IWidestTextHint {
+    /**
+     * Get the item expected to be drawn widest.
+     *
+     * @return widest item text, or null if unknown
+     */
+    String getWidestText();
+}
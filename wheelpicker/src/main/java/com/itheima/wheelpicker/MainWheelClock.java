@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.eventhandler.EventHandler;
+
+/**
+ * Default clock, the wall clock and the main event runner.
+ */
+final class MainWheelClock implements WheelClock {
+    private final EventHandler mHandler;
+
+    MainWheelClock(EventHandler handler) {
+        mHandler = handler;
+    }
+
+    @Override
+    public long now() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public void post(Runnable task, long delayMillis) {
+        if (delayMillis <= 0) {
+            mHandler.postTask(task);
+        } else {
+            mHandler.postTask(task, delayMillis);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import com.itheima.wheelpicker.core.WheelScroller;
+import ohos.agp.components.ScrollHelper;
+
+/**
+ * Scroller of the platform, used with the default clock. ScrollHelper reports no end of a fling,
+ * the current offset stands in for it and moving the end jumps there.
+ */
+final class PlatformWheelScroller implements WheelScroller {
+    private final ScrollHelper mHelper = new ScrollHelper();
+
+    @Override
+    public boolean isFinished() {
+        return mHelper.isFinished();
+    }
+
+    @Override
+    public void abortAnimation() {
+        mHelper.abortAnimation();
+    }
+
+    @Override
+    public void startScroll(int startY, int dy) {
+        mHelper.startScroll(0, startY, 0, dy);
+    }
+
+    @Override
+    public void fling(int startY, int velocityY, int minY, int maxY) {
+        mHelper.doFling(0, startY, 0, velocityY, 0, 0, minY, maxY);
+    }
+
+    @Override
+    public int getCurrY() {
+        return mHelper.getCurrValue(ScrollHelper.AXIS_Y);
+    }
+
+    @Override
+    public int getFinalY() {
+        return mHelper.getCurrValue(ScrollHelper.AXIS_Y);
+    }
+
+    @Override
+    public void setFinalY(int finalY) {
+        mHelper.startScrollY(finalY, 0);
+    }
+
+    @Override
+    public boolean computeScrollOffset() {
+        return mHelper.updateScroll();
+    }
+}
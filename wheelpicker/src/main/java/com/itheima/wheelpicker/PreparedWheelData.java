@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+import com.itheima.wheelpicker.core.WheelDataSource;
+import com.itheima.wheelpicker.search.WheelSearchIndex;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import ohos.agp.render.Paint;
+
+/**
+ * Immutable data set prepared off the main thread by {@link WheelPicker#prepareDataAsync(List)}.
+ * Holds a copy of the items with their labels, the widest label measured with the paint of the
+ * wheel, the value to position map and optionally the search index, so that showing it costs the
+ * wheel a single measurement. Only final fields, so instances are safely shared between threads.
+ */
+public final class PreparedWheelData extends AbstractList<Object> implements RandomAccess,
+        IWidestTextHint, IPositionResolver, WheelDataSource {
+    private final Object[] mItems;
+
+    private final String[] mLabels;
+
+    private final String mWidestLabel;
+
+    private final Map<Object, Integer> mPositions;
+
+    private final WheelSearchIndex mSearchIndex;
+
+    private final boolean hasPinyinInitials;
+
+    /**
+     * Prepare data, the expensive part of {@link WheelPicker#prepareDataAsync(List)}.
+     *
+     * @param source items, copied
+     * @param paint paint used to measure the labels, must not be used by anything else meanwhile
+     * @param hasPinyinInitials whether the search index includes pinyin initials
+     */
+    PreparedWheelData(List<?> source, Paint paint, boolean hasPinyinInitials) {
+        mItems = source.toArray();
+        mLabels = new String[mItems.length];
+        mPositions = new HashMap<>(mItems.length * 4 / 3 + 1);
+        String widest = null;
+        float widestWidth = -1;
+        for (int i = mItems.length - 1; i >= 0; i--) {
+            String label = String.valueOf(mItems[i]);
+            mLabels[i] = label;
+            // Walk backwards so duplicated values keep their first position, like indexOf
+            mPositions.put(mItems[i], i);
+            float width = paint.measureText(label);
+            if (width >= widestWidth) {
+                widest = label;
+                widestWidth = width;
+            }
+        }
+        mWidestLabel = widest;
+        mSearchIndex = WheelSearchIndex.build(Arrays.asList(mLabels), hasPinyinInitials);
+        this.hasPinyinInitials = hasPinyinInitials;
+    }
+
+    @Override
+    public Object get(int index) {
+        return mItems[index];
+    }
+
+    @Override
+    public int size() {
+        return mItems.length;
+    }
+
+    @Override
+    public String getLabel(int index) {
+        return mLabels[index];
+    }
+
+    @Override
+    public String getWidestText() {
+        return mWidestLabel;
+    }
+
+    @Override
+    public int resolvePosition(Object value) {
+        Integer position = mPositions.get(value);
+        return null == position ? -1 : position;
+    }
+
+    /**
+     * Get the search index built with the data.
+     *
+     * @param isPinyinInitials pinyin option the wheel currently uses
+     * @return search index, or null if it was built with another option
+     */
+    WheelSearchIndex getSearchIndex(boolean isPinyinInitials) {
+        return isPinyinInitials == hasPinyinInitials ? mSearchIndex : null;
+    }
+}
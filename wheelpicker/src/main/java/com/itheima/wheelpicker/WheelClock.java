@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+/**
+ * Time source and scheduler of the wheel animations, set with {@link WheelPicker#setClock(WheelClock)}.
+ * By default the wheel runs on the wall clock and the main event runner. A clock advanced by hand
+ * makes scrolling deterministic, so recorded touches replay to the same frames on every run.
+ */
+public interface WheelClock {
+    /**
+     * Get the current time.
+     *
+     * @return time in milliseconds
+     */
+    long now();
+
+    /**
+     * Run a task on the thread owning the wheel after a delay.
+     *
+     * @param task task to run
+     * @param delayMillis delay in milliseconds, 0 to run it next
+     */
+    void post(Runnable task, long delayMillis);
+}
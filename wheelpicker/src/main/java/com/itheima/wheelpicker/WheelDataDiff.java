@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Longest common subsequence between two data lists, found with the Myers difference algorithm.
+ * Common leading and trailing items are matched first, so small edits at either end are linear.
+ */
+final class WheelDataDiff {
+    private WheelDataDiff() {
+    }
+
+    /**
+     * Match the items of two lists.
+     *
+     * @param oldData old items
+     * @param newData new items
+     * @param strategy item matching and edit bound
+     * @return new position of every old item, -1 for removed items, or null if the lists differ
+     *     by more than {@link DiffStrategy#getMaxEditCount()} items
+     */
+    static int[] map(List<?> oldData, List<?> newData, DiffStrategy strategy) {
+        int oldSize = oldData.size();
+        int newSize = newData.size();
+        int[] oldToNew = new int[oldSize];
+        Arrays.fill(oldToNew, -1);
+
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize
+                && strategy.isSameItem(oldData.get(prefix), newData.get(prefix))) {
+            oldToNew[prefix] = prefix;
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && strategy.isSameItem(oldData.get(oldSize - 1 - suffix), newData.get(newSize - 1 - suffix))) {
+            oldToNew[oldSize - 1 - suffix] = newSize - 1 - suffix;
+            suffix++;
+        }
+
+        int oldCount = oldSize - prefix - suffix;
+        int newCount = newSize - prefix - suffix;
+        if (oldCount == 0 || newCount == 0) {
+            return oldToNew;
+        }
+        int maxEdits = strategy.getMaxEditCount();
+        if (Math.abs(oldCount - newCount) > maxEdits) {
+            return null;
+        }
+        return matchMiddle(oldData.subList(prefix, prefix + oldCount), newData.subList(prefix, prefix + newCount),
+                strategy, maxEdits, prefix, oldToNew);
+    }
+
+    private static int[] matchMiddle(List<?> a, List<?> b, DiffStrategy strategy, int maxEdits, int offset,
+            int[] oldToNew) {
+        int n = a.size();
+        int m = b.size();
+        int max = Math.min(maxEdits, n + m);
+        int origin = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[origin + k - 1] < v[origin + k + 1])) {
+                    x = v[origin + k + 1];
+                } else {
+                    x = v[origin + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && strategy.isSameItem(a.get(x), b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[origin + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(trace, origin, n, m, offset, oldToNew);
+                    return oldToNew;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void backtrack(List<int[]> trace, int origin, int n, int m, int offset, int[] oldToNew) {
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK;
+            if (k == -d || (k != d && v[origin + k - 1] < v[origin + k + 1])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+            int previousX = v[origin + previousK];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+                oldToNew[offset + x] = offset + y;
+            }
+            x = previousX;
+            y = previousY;
+        }
+    }
+}
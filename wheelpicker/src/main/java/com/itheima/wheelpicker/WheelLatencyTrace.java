@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+import java.util.Arrays;
+
+/**
+ * Touch to pixel latency of wheel drags, recorded when enabled with
+ * {@link IDebug#setLatencyTracingEnabled(boolean)}.
+ * Every drag move is timestamped when the wheel handles it, when the invalidate it posted is
+ * dispatched and when the onDraw showing it starts. Several moves may be shown by one draw.
+ * The latest samples are kept in a ring buffer, older ones are overwritten. All times are taken
+ * with {@link System#nanoTime()} and reported in microseconds.
+ * Recorded and read on the main thread.
+ */
+public final class WheelLatencyTrace {
+    /**
+     * Default number of samples kept.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * From the move to the dispatch of the invalidate it posted.
+     */
+    public static final int STAGE_DISPATCH = 0;
+
+    /**
+     * From the dispatch of the invalidate to the draw.
+     */
+    public static final int STAGE_DRAW = 1;
+
+    /**
+     * From the move to the draw.
+     */
+    public static final int STAGE_TOTAL = 2;
+
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final long[] mMoveTimes;
+
+    private final long[] mDispatchTimes;
+
+    private final long[] mDrawTimes;
+
+    /**
+     * Scratch buffer for percentiles, allocated once.
+     */
+    private final long[] mSorted;
+
+    /**
+     * Next slot to write, number of slots written and number of moves not drawn yet.
+     */
+    private int mNext;
+    private int mSize;
+    private int mPendingCount;
+
+    public WheelLatencyTrace() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a trace.
+     *
+     * @param capacity number of samples kept
+     */
+    public WheelLatencyTrace(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, but current is " + capacity);
+        }
+        mMoveTimes = new long[capacity];
+        mDispatchTimes = new long[capacity];
+        mDrawTimes = new long[capacity];
+        mSorted = new long[capacity];
+    }
+
+    void onMove(long time) {
+        mMoveTimes[mNext] = time;
+        mDispatchTimes[mNext] = 0;
+        mDrawTimes[mNext] = 0;
+        mNext = (mNext + 1) % mMoveTimes.length;
+        mSize = Math.min(mSize + 1, mMoveTimes.length);
+        mPendingCount = Math.min(mPendingCount + 1, mMoveTimes.length);
+    }
+
+    void onInvalidateDispatched(long time) {
+        for (int i = 0; i < mPendingCount; i++) {
+            int slot = pendingSlot(i);
+            if (mDispatchTimes[slot] == 0) {
+                mDispatchTimes[slot] = time;
+            }
+        }
+    }
+
+    void onDraw(long time) {
+        for (int i = 0; i < mPendingCount; i++) {
+            int slot = pendingSlot(i);
+            if (mDispatchTimes[slot] == 0) {
+                // Drawn by an invalidate posted for something else, before its own was dispatched
+                mDispatchTimes[slot] = time;
+            }
+            mDrawTimes[slot] = time;
+        }
+        mPendingCount = 0;
+    }
+
+    private int pendingSlot(int pending) {
+        int slot = mNext - mPendingCount + pending;
+        return slot < 0 ? slot + mMoveTimes.length : slot;
+    }
+
+    /**
+     * Get the number of moves that were drawn.
+     *
+     * @return sample count
+     */
+    public int getSampleCount() {
+        return mSize - mPendingCount;
+    }
+
+    /**
+     * Get a latency percentile over the drawn moves.
+     *
+     * @param stage {@link #STAGE_DISPATCH}, {@link #STAGE_DRAW} or {@link #STAGE_TOTAL}
+     * @param percentile percentile in [0, 100]
+     * @return latency in microseconds, 0 without samples
+     */
+    public long getPercentile(int stage, double percentile) {
+        int count = collect(stage);
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(mSorted, 0, count);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return mSorted[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    private int collect(int stage) {
+        int count = 0;
+        for (int i = 0; i < mSize; i++) {
+            if (mDrawTimes[i] == 0) {
+                continue;
+            }
+            long latency;
+            switch (stage) {
+                case STAGE_DISPATCH:
+                    latency = mDispatchTimes[i] - mMoveTimes[i];
+                    break;
+                case STAGE_DRAW:
+                    latency = mDrawTimes[i] - mDispatchTimes[i];
+                    break;
+                default:
+                    latency = mDrawTimes[i] - mMoveTimes[i];
+                    break;
+            }
+            mSorted[count++] = latency / NANOS_PER_MICRO;
+        }
+        return count;
+    }
+
+    /**
+     * Add the drawn samples of another trace, for example to sum up the wheels of a screen.
+     * Moves of this trace that are not drawn yet keep waiting for their draw.
+     *
+     * @param other trace to add
+     */
+    public void add(WheelLatencyTrace other) {
+        for (int i = 0; i < other.mSize; i++) {
+            int slot = (other.mNext - other.mSize + i + other.mMoveTimes.length) % other.mMoveTimes.length;
+            if (other.mDrawTimes[slot] == 0) {
+                continue;
+            }
+            addDrawn(other.mMoveTimes[slot], other.mDispatchTimes[slot], other.mDrawTimes[slot]);
+        }
+    }
+
+    private void addDrawn(long moveTime, long dispatchTime, long drawTime) {
+        int length = mMoveTimes.length;
+        // A full ring of moves not drawn yet loses its oldest one to the sample
+        mPendingCount = Math.min(mPendingCount, length - 1);
+        // Moves not drawn yet stay the latest slots, shift them up and write the sample before them
+        int slot = mNext;
+        for (int i = 0; i < mPendingCount; i++) {
+            int previous = slot == 0 ? length - 1 : slot - 1;
+            mMoveTimes[slot] = mMoveTimes[previous];
+            mDispatchTimes[slot] = mDispatchTimes[previous];
+            mDrawTimes[slot] = mDrawTimes[previous];
+            slot = previous;
+        }
+        mMoveTimes[slot] = moveTime;
+        mDispatchTimes[slot] = dispatchTime;
+        mDrawTimes[slot] = drawTime;
+        mNext = (mNext + 1) % length;
+        mSize = Math.min(mSize + 1, length);
+    }
+
+    /**
+     * Clear every sample.
+     */
+    public void reset() {
+        mNext = 0;
+        mSize = 0;
+        mPendingCount = 0;
+    }
+
+    /**
+     * Dump the percentiles and the latest samples, oldest first, one per line.
+     *
+     * @return trace dump
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("samples=").append(getSampleCount());
+        appendPercentiles(sb, "dispatch", STAGE_DISPATCH);
+        appendPercentiles(sb, "draw", STAGE_DRAW);
+        appendPercentiles(sb, "total", STAGE_TOTAL);
+        sb.append("\nmove(us) dispatch(+us) draw(+us)");
+        long first = mMoveTimes[(mNext - mSize + mMoveTimes.length) % mMoveTimes.length];
+        for (int i = 0; i < mSize; i++) {
+            int slot = (mNext - mSize + i + mMoveTimes.length) % mMoveTimes.length;
+            sb.append('\n').append((mMoveTimes[slot] - first) / NANOS_PER_MICRO);
+            appendOffset(sb, mDispatchTimes[slot], mMoveTimes[slot]);
+            appendOffset(sb, mDrawTimes[slot], mMoveTimes[slot]);
+        }
+        return sb.toString();
+    }
+
+    private void appendPercentiles(StringBuilder sb, String name, int stage) {
+        sb.append('\n').append(name)
+                .append(" p50=").append(getPercentile(stage, 50))
+                .append(" p90=").append(getPercentile(stage, 90))
+                .append(" p99=").append(getPercentile(stage, 99))
+                .append(" max=").append(getPercentile(stage, 100));
+    }
+
+    private static void appendOffset(StringBuilder sb, long time, long moveTime) {
+        sb.append(' ');
+        if (time == 0) {
+            sb.append('-');
+        } else {
+            sb.append((time - moveTime) / NANOS_PER_MICRO);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WheelLatencyTrace{samples=" + getSampleCount() + ", total p50=" + getPercentile(STAGE_TOTAL, 50)
+                + ", p99=" + getPercentile(STAGE_TOTAL, 99) + "}";
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+/**
+ * Performance metrics of a wheel, recorded when enabled with {@link IDebug#setMetricsEnabled(boolean)}.
+ * Every metric is kept in a histogram with fixed buckets, recording a sample only increments
+ * counters, so the metrics are cheap enough for release builds.
+ * Recorded and read on the main thread.
+ */
+public final class WheelMetrics {
+    /**
+     * Default frame budget, one frame at 60 fps, in microseconds.
+     */
+    public static final long DEFAULT_FRAME_BUDGET = 16_667;
+
+    private static final long[] FRAME_BOUNDS = {
+        250, 500, 1_000, 2_000, 4_000, 8_000, 12_000, 16_667, 25_000, 33_333, 50_000, 100_000
+    };
+
+    private static final long[] ANIMATION_BOUNDS = {
+        50, 100, 150, 200, 300, 400, 500, 750, 1_000, 1_500, 2_000, 3_000, 5_000
+    };
+
+    private static final long[] ITEM_BOUNDS = {
+        1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 20, 24, 32
+    };
+
+    private final Histogram mFrameDurations = new Histogram(FRAME_BOUNDS);
+
+    private final Histogram mFlingSettleDurations = new Histogram(ANIMATION_BOUNDS);
+
+    private final Histogram mSettleDurations = new Histogram(ANIMATION_BOUNDS);
+
+    private final Histogram mItemsDrawn = new Histogram(ITEM_BOUNDS);
+
+    private long mFrameBudget = DEFAULT_FRAME_BUDGET;
+
+    private long mOverBudgetFrameCount;
+
+    /**
+     * Get the durations of onDraw, in microseconds.
+     *
+     * @return frame duration histogram
+     */
+    public Histogram getFrameDurations() {
+        return mFrameDurations;
+    }
+
+    /**
+     * Get the durations from a fling release until the wheel settled on an item, in milliseconds.
+     * These are the settle durations of the releases that flung, the snap onto the item is part
+     * of the fling animation.
+     *
+     * @return fling settle duration histogram
+     */
+    public Histogram getFlingSettleDurations() {
+        return mFlingSettleDurations;
+    }
+
+    /**
+     * Get the durations from any release until the wheel settled on an item, in milliseconds.
+     *
+     * @return settle duration histogram
+     */
+    public Histogram getSettleDurations() {
+        return mSettleDurations;
+    }
+
+    /**
+     * Get the number of items drawn per frame.
+     *
+     * @return items drawn histogram
+     */
+    public Histogram getItemsDrawn() {
+        return mItemsDrawn;
+    }
+
+    public long getFrameBudget() {
+        return mFrameBudget;
+    }
+
+    /**
+     * Set the frame duration above which a frame counts as over budget.
+     *
+     * @param budget budget in microseconds
+     */
+    public void setFrameBudget(long budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Frame budget must be positive, but current is " + budget);
+        }
+        mFrameBudget = budget;
+    }
+
+    /**
+     * Get the number of frames whose onDraw took longer than the frame budget.
+     *
+     * @return over budget frame count
+     */
+    public long getOverBudgetFrameCount() {
+        return mOverBudgetFrameCount;
+    }
+
+    /**
+     * Clear every metric, the frame budget is kept.
+     */
+    public void reset() {
+        mFrameDurations.reset();
+        mFlingSettleDurations.reset();
+        mSettleDurations.reset();
+        mItemsDrawn.reset();
+        mOverBudgetFrameCount = 0;
+    }
+
+    /**
+     * Add the samples of other metrics to these, for example to sum up the wheels of a screen.
+     *
+     * @param other metrics to add
+     */
+    public void add(WheelMetrics other) {
+        mFrameDurations.add(other.mFrameDurations);
+        mFlingSettleDurations.add(other.mFlingSettleDurations);
+        mSettleDurations.add(other.mSettleDurations);
+        mItemsDrawn.add(other.mItemsDrawn);
+        mOverBudgetFrameCount += other.mOverBudgetFrameCount;
+    }
+
+    void recordFrame(long duration, int itemsDrawn) {
+        mFrameDurations.record(duration);
+        mItemsDrawn.record(itemsDrawn);
+        if (duration > mFrameBudget) {
+            mOverBudgetFrameCount++;
+        }
+    }
+
+    void recordFlingSettle(long duration) {
+        mFlingSettleDurations.record(duration);
+    }
+
+    void recordSettle(long duration) {
+        mSettleDurations.record(duration);
+    }
+
+    @Override
+    public String toString() {
+        return "WheelMetrics{frames=" + mFrameDurations + ", overBudget=" + mOverBudgetFrameCount
+                + ", flingSettles=" + mFlingSettleDurations + ", settles=" + mSettleDurations
+                + ", itemsDrawn=" + mItemsDrawn + "}";
+    }
+
+    /**
+     * Histogram with fixed bucket bounds. Bucket i counts the samples up to its bound, the last
+     * bucket counts the samples above every bound.
+     */
+    public static final class Histogram {
+        private final long[] mBounds;
+
+        private final long[] mCounts;
+
+        private long mTotalCount;
+
+        private long mSum;
+
+        private long mMax;
+
+        Histogram(long[] bounds) {
+            mBounds = bounds;
+            mCounts = new long[bounds.length + 1];
+        }
+
+        void record(long value) {
+            int low = 0;
+            int high = mBounds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (mBounds[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            mCounts[low]++;
+            mTotalCount++;
+            mSum += value;
+            mMax = Math.max(mMax, value);
+        }
+
+        void add(Histogram other) {
+            for (int i = 0; i < mCounts.length; i++) {
+                mCounts[i] += other.mCounts[i];
+            }
+            mTotalCount += other.mTotalCount;
+            mSum += other.mSum;
+            mMax = Math.max(mMax, other.mMax);
+        }
+
+        void reset() {
+            for (int i = 0; i < mCounts.length; i++) {
+                mCounts[i] = 0;
+            }
+            mTotalCount = 0;
+            mSum = 0;
+            mMax = 0;
+        }
+
+        public int getBucketCount() {
+            return mCounts.length;
+        }
+
+        /**
+         * Get the upper bound of a bucket.
+         *
+         * @param bucket bucket index
+         * @return inclusive upper bound, Long.MAX_VALUE for the last bucket
+         */
+        public long getBucketBound(int bucket) {
+            return bucket < mBounds.length ? mBounds[bucket] : Long.MAX_VALUE;
+        }
+
+        public long getCount(int bucket) {
+            return mCounts[bucket];
+        }
+
+        public long getTotalCount() {
+            return mTotalCount;
+        }
+
+        public long getMax() {
+            return mMax;
+        }
+
+        public double getMean() {
+            return mTotalCount == 0 ? 0 : (double) mSum / mTotalCount;
+        }
+
+        /**
+         * Get an upper estimate of a percentile, the bound of the bucket holding it.
+         *
+         * @param percentile percentile in [0, 100]
+         * @return bucket bound, the maximum for the last bucket, 0 without samples
+         */
+        public long getPercentile(double percentile) {
+            if (mTotalCount == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100 * mTotalCount);
+            long seen = 0;
+            for (int i = 0; i < mBounds.length; i++) {
+                seen += mCounts[i];
+                if (seen >= rank) {
+                    return Math.min(mBounds[i], mMax);
+                }
+            }
+            return mMax;
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + mTotalCount + ", mean=" + (long) getMean() + ", p50=" + getPercentile(50)
+                    + ", p95=" + getPercentile(95) + ", max=" + mMax + "}";
+        }
+    }
+}
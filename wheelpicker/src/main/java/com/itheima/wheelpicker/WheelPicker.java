@@ -16,24 +16,35 @@
 
 package com.itheima.wheelpicker;
 
+import com.itheima.wheelpicker.core.CyclicIndex;
+import com.itheima.wheelpicker.core.DecelerateScroller;
+import com.itheima.wheelpicker.core.WheelDataSource;
+import com.itheima.wheelpicker.core.WheelLayout;
+import com.itheima.wheelpicker.core.WheelScrollState;
+import com.itheima.wheelpicker.core.WidestItemSearch;
+import com.itheima.wheelpicker.model.AbstractObservableWheelData;
+import com.itheima.wheelpicker.search.WheelSearchIndex;
 import com.itheima.wheelpicker.util.AttrUtil;
 import com.itheima.wheelpicker.util.LogUtil;
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import ohos.agp.components.AttrSet;
 import ohos.agp.components.Component;
-import ohos.agp.components.ScrollHelper;
 import ohos.agp.components.VelocityDetector;
 import ohos.agp.render.Canvas;
 import ohos.agp.render.Paint;
-import ohos.agp.render.ThreeDimView;
 import ohos.agp.text.Font;
 import ohos.agp.utils.Color;
-import ohos.agp.utils.Matrix;
 import ohos.agp.utils.Rect;
-import ohos.agp.utils.RectFloat;
 import ohos.agp.utils.TextAlignment;
 import ohos.agp.utils.TextTool;
 import ohos.app.Context;
@@ -41,7 +52,6 @@ import ohos.eventhandler.EventHandler;
 import ohos.eventhandler.EventRunner;
 import ohos.global.resource.NotExistException;
 import ohos.global.resource.WrongTypeException;
-import ohos.multimodalinput.event.MmiPoint;
 import ohos.multimodalinput.event.TouchEvent;
 
 /**
@@ -77,7 +87,67 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
 
     private static final String TAG = WheelPicker.class.getSimpleName();
 
-    private final EventHandler mEventHandler = new EventHandler(EventRunner.create());
+    /**
+     * Work left after a property change, collected while an edit started by
+     * {@link #beginUpdate()} is open.
+     */
+    private static final int UPDATE_TEXT_SIZE = 1;
+    private static final int UPDATE_GEOMETRY = 1 << 1;
+    private static final int UPDATE_FLING_LIMITS = 1 << 2;
+    private static final int UPDATE_LAYOUT = 1 << 3;
+    private static final int UPDATE_DRAW = 1 << 4;
+    private static final int UPDATE_RENDERER = 1 << 5;
+
+    private static final long NANOS_PER_MICRO = 1000;
+
+    /**
+     * Duration of the fade in of new items after a diffed data change, in milliseconds.
+     */
+    private static final int FADE_DURATION = 200;
+
+    private static final int FRAME_INTERVAL = 16;
+
+    /**
+     * Background runner shared by all pickers building search indexes.
+     */
+    private static EventHandler sSearchIndexHandler;
+
+    /**
+     * Background runner shared by all pickers preparing data.
+     */
+    private static EventHandler sPrepareHandler;
+
+    /**
+     * Items shown by pickers whose data is not set, loaded by the first picker.
+     */
+    private static volatile List<String> sDefaultData;
+
+    /**
+     * Style applied last, its paint is shared until this picker changes the paint on its own.
+     */
+    private WheelStyle mStyle;
+
+    /**
+     * Number of open edits and the work deferred until the last one is committed.
+     */
+    private int mUpdateDepth;
+    private int mPendingUpdates;
+
+    /**
+     * Runs the scroll animation. The main thread owns every mutable field of the wheel, so the
+     * animation, touch handling and drawing never race.
+     */
+    private final EventHandler mEventHandler = new EventHandler(EventRunner.getMainEventRunner());
+
+    /**
+     * Data and selection posted from other threads, taken over on the main thread.
+     */
+    private final AtomicReference<Handoff> mHandoff = new AtomicReference<>();
+
+    /**
+     * Times and schedules the animations, see {@link #setClock(WheelClock)}.
+     */
+    private WheelClock mClock = new MainWheelClock(mEventHandler);
 
     /**
      * Determines whether the current scrolling animation is triggered by touchEvent or setSelectedItemPosition.
@@ -86,7 +156,20 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     private boolean isTouchTriggered;
 
     private Paint mPaint;
-    private ScrollHelper mScroller;
+
+    /**
+     * Scroll offset, positions, drags and flings, see {@link WheelScrollState}.
+     */
+    private final WheelScrollState mScrollState = new WheelScrollState(new PlatformWheelScroller());
+
+    /**
+     * Item height and drawn items, owned by the scroll state.
+     */
+    private final WheelLayout mLayout = mScrollState.getLayout();
+
+    /**
+     * Velocity of real touches with the default clock, replayed touches use the event times.
+     */
     private VelocityDetector mVelocityDetector;
 
     /**
@@ -103,9 +186,6 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     private Rect mRectIndicatorFoot;
     private Rect mRectCurrentItem;
 
-    private Matrix mMatrixRotate;
-    private Matrix mMatrixDepth;
-
     /**
      * data source.
      */
@@ -125,12 +205,6 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
      * @see #setVisibleItemCount(int)
      */
     private int mVisibleItemCount;
-    private int mDrawnItemCount;
-
-    /**
-     * Half of the number of items that the wheel selector will draw.
-     */
-    private int mHalfDrawnItemCount;
 
     /**
      * maximum width and height of a single text.
@@ -190,133 +264,168 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     private int mItemAlign;
 
     /**
-     * The height of a single data item and half the height of a single data item of the wheel selector.
+     * The center coordinates of the wheel selector.
+     */
+    private int mWheelCenterX;
+    private int mWheelCenterY;
+
+    /**
+     * Scroll selector to draw center coordinates.
      */
-    private int mItemHeight;
-    private int mHalfItemHeight;
+    private int mDrawnCenterX;
+    private int mDrawnCenterY;
 
     /**
-     * Half the height of the content area of the wheel selector.
+     * The position of the widest or tallest text in the wheel selector in the data source.
      */
-    private int mHalfWheelHeight;
+    private int mTextMaxWidthPosition;
 
     /**
-     * The position of the data displayed by the currently selected data item in the data source.
+     * Whether each data item text of the wheel selector has the same width.
      *
-     * @see #setSelectedItemPosition(int)
+     * @see #setSameWidth(boolean)
      */
-    private int mSelectedItemPosition;
+    private boolean hasSameWidth;
 
     /**
-     * The position of the data displayed by the currently selected data item in the data source.
+     * Whether to show indicator.
      *
-     * @see #getCurrentItemPosition()
+     * @see #setIndicator(boolean)
      */
-    private int mCurrentItemPosition;
+    private boolean hasIndicator;
 
     /**
-     * The smallest amount that the roller can slide when sliding/Largest Y coordinate.
+     * Whether to show the curtain.
+     *
+     * @see #setCurtain(boolean)
      */
-    private int mMinFlingY;
-    private int mMaxFlingY;
+    private boolean hasCurtain;
 
     /**
-     * The minimum when the roller is sliding.
+     * Whether to show the atmospheric effect.
+     *
+     * @see #setAtmospheric(boolean)
      */
-    private int mMinimumVelocity;
+    private boolean hasAtmospheric;
 
     /**
-     * The center coordinates of the wheel selector.
+     * Whether the roller has a curling effect.
+     *
+     * @see #setCurved(boolean)
      */
-    private int mWheelCenterX;
-    private int mWheelCenterY;
+    private boolean isCurved;
 
     /**
-     * Scroll selector to draw center coordinates.
+     * Renderer set with {@link #setRenderer(WheelRenderer)}, or null to follow {@link #isCurved}.
      */
-    private int mDrawnCenterX;
-    private int mDrawnCenterY;
+    private WheelRenderer mRenderer;
 
     /**
-     * The offset value of the view area of the wheel selector in the Y axis direction.
+     * Flat or curved renderer used without one, recreated when {@link #isCurved} changes.
      */
-    private int mScrollOffsetY;
+    private WheelRenderer mDefaultRenderer;
 
     /**
-     * The position of the widest or tallest text in the wheel selector in the data source.
+     * Renderer drawing the wheel, chosen again when the renderer or the curved setting changes,
+     * and whether it must be configured before the next draw because what it draws with changed.
      */
-    private int mTextMaxWidthPosition;
+    private WheelRenderer mActiveRenderer;
+    private boolean isRendererDirty;
+
+    private final WheelRenderConfig mRenderConfig = new WheelRenderConfig();
+
+    private boolean isDebug;
 
     /**
-     * The Y coordinate of the event when the user's finger last touched the event.
+     * Metrics recorded while enabled, created on first use.
      */
-    private int mLastPointY;
+    private WheelMetrics mMetrics;
+    private boolean isMetricsEnabled;
 
     /**
-     * The Y coordinate of the event point when the finger touches the screen.
+     * Time of the last release, 0 once the wheel settled, and whether it started a fling.
      */
-    private int mDownPointY;
+    private long mReleaseTime;
+    private boolean isFlingReleased;
 
     /**
-     * Click and touch switching threshold.
+     * Drag latency samples recorded while tracing, created on first use.
      */
-    private int mTouchSlop;
+    private WheelLatencyTrace mLatencyTrace;
+    private boolean isLatencyTracing;
+
+    private String fontPath;
 
     /**
-     * Whether each data item text of the wheel selector has the same width.
+     * Search index of the current data, null until it has been built.
      *
-     * @see #setSameWidth(boolean)
+     * @see #scrollToMatch(String)
      */
-    private boolean hasSameWidth;
+    private WheelSearchIndex mSearchIndex;
+
+    private boolean isSearchIndexBuilding;
 
     /**
-     * Whether to show indicator.
-     *
-     * @see #setIndicator(boolean)
+     * Query waiting for the search index to be built.
      */
-    private boolean hasIndicator;
+    private String mPendingSearchQuery;
+
+    private boolean hasSearchPinyinInitials = true;
 
     /**
-     * Whether to show the curtain.
+     * Value to position map of the current data, built on first lookup.
      *
-     * @see #setCurtain(boolean)
+     * @see #getPositionOf(Object)
      */
-    private boolean hasCurtain;
+    private Map<Object, Integer> mPositions;
 
     /**
-     * Whether to show the atmospheric effect.
-     *
-     * @see #setAtmospheric(boolean)
+     * Incremented whenever the data or its content changes, work done in the background for an
+     * older version is dropped.
      */
-    private boolean hasAtmospheric;
+    private int mDataVersion;
 
     /**
-     * Whether the data is displayed in a loop.
-     *
-     * @see #setCyclic(boolean)
+     * Incremented whenever data is set or prepared, only the latest prepared data is shown.
      */
-    private boolean isCyclic;
+    private int mPrepareGeneration;
 
     /**
-     * Whether the roller has a curling effect.
-     *
-     * @see #setCurved(boolean)
+     * Future of the data being prepared, cancelled as soon as other data is set or prepared.
      */
-    private boolean isCurved;
+    private CompletableFuture<PreparedWheelData> mPreparingFuture;
 
     /**
-     * Whether it is click mode.
+     * Text width of every item when the widest item is found by measuring them all, so a change of
+     * the data only measures the items it touches.
      */
-    private boolean isClick;
+    private int[] mItemWidths;
 
     /**
-     * Whether it is a forced end sliding.
+     * Positions of the visible items that are new since the last diffed data change, they fade in.
+     *
+     * @see #setData(List, DiffStrategy)
      */
-    private boolean isForceFinishScroll;
+    private int[] mFadingPositions;
 
-    private boolean isDebug;
+    private long mFadeStartTime;
 
-    private String fontPath;
+    private final AbstractObservableWheelData.DataObserver mDataObserver = new AbstractObservableWheelData.DataObserver() {
+        @Override
+        public void onItemRangeInserted(int start, int count) {
+            onDataRangeInserted(start, count);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int start, int count) {
+            onDataRangeRemoved(start, count);
+        }
+
+        @Override
+        public void onItemRangeChanged(int start, int count) {
+            onDataRangeChanged(start, count);
+        }
+    };
 
 
     public WheelPicker(Context context) {
@@ -331,12 +440,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
      */
     public WheelPicker(Context context, AttrSet attrs) {
         super(context, attrs);
-        try {
-            mData = Arrays.asList(this.getResourceManager()
-                    .getElement(ResourceTable.Strarray_WheelArrayDefault).getStringArray());
-        } catch (IOException | WrongTypeException | NotExistException e) {
-            e.printStackTrace();
-        }
+        mData = getDefaultData(context);
         init(context, attrs);
 
         // Update the related parameters after the visible data item is changed
@@ -358,12 +462,6 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         // Correct sizes of text
         computeTextSize();
 
-        mScroller = new ScrollHelper();
-
-        mMinimumVelocity = 150;
-        mTouchSlop = 24;
-
-
         mRectDrawn = new Rect();
 
         mRectIndicatorHead = new Rect();
@@ -371,92 +469,65 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
 
         mRectCurrentItem = new Rect();
 
-        mMatrixRotate = new Matrix();
-        mMatrixDepth = new Matrix();
+        selectRenderer();
 
         new EventHandler(EventRunner.getMainEventRunner()).postTask(() -> addDrawTask(this));
         setTouchEventListener(this);
     }
 
     private void init(Context context, AttrSet attrSet) {
-        new WheelPicker.StyledAttributes(context, attrSet);
+        new WheelPicker.StyledAttributes(AttrKeys.obtain(context), attrSet);
     }
 
     private class StyledAttributes {
 
-        StyledAttributes(Context context, AttrSet attrSet) {
-            mItemTextSize = (int) AttrUtil.getDimension(attrSet, AttrUtil
-                            .getString(context, ResourceTable.String_wheelItemTextSize),
-                    AttrUtil.getDimen(context, ResourceTable.Float_WheelItemTextSize));
+        StyledAttributes(AttrKeys keys, AttrSet attrSet) {
+            mItemTextSize = (int) AttrUtil.getDimension(attrSet, keys.mItemTextSize, keys.mDefaultItemTextSize);
 
-            mVisibleItemCount = AttrUtil.getIntegerValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelVisibleItemCount), 7);
+            mVisibleItemCount = AttrUtil.getIntegerValue(attrSet, keys.mVisibleItemCount, 7);
 
-            mSelectedItemPosition = AttrUtil.getIntegerValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelSelectedItemPosition), 0);
+            mScrollState.setSelectedItemPosition(AttrUtil.getIntegerValue(attrSet, keys.mSelectedItemPosition, 0));
 
-            hasSameWidth = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelSameWidth), false);
+            hasSameWidth = AttrUtil.getBooleanValue(attrSet, keys.mSameWidth, false);
 
-            mTextMaxWidthPosition = AttrUtil.getIntegerValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelMaximumWidthTextPosition), -1);
+            mTextMaxWidthPosition = AttrUtil.getIntegerValue(attrSet, keys.mMaximumWidthTextPosition, -1);
 
-            mMaxWidthText = AttrUtil.getStringValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelMaximumWidthText), "");
+            mMaxWidthText = AttrUtil.getStringValue(attrSet, keys.mMaximumWidthText, "");
 
-            mSelectedItemTextColor = AttrUtil.getColorValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelSelectedItemTextColor), -1);
+            mSelectedItemTextColor = AttrUtil.getColorValue(attrSet, keys.mSelectedItemTextColor, -1);
 
-            mItemTextColor = AttrUtil.getColorValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelItemTextColor), 0xFF888888);
+            mItemTextColor = AttrUtil.getColorValue(attrSet, keys.mItemTextColor, 0xFF888888);
 
-            mItemSpace = (int) AttrUtil.getDimension(attrSet, AttrUtil
-                            .getString(context, ResourceTable.String_wheelItemSpace),
-                    AttrUtil.getDimen(context, ResourceTable.Float_WheelItemSpace));
+            mItemSpace = (int) AttrUtil.getDimension(attrSet, keys.mItemSpace, keys.mDefaultItemSpace);
 
-            isCyclic = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelCyclic), false);
+            mScrollState.setCyclic(AttrUtil.getBooleanValue(attrSet, keys.mCyclic, false));
 
-            initIndicator(context, attrSet);
+            initIndicator(keys, attrSet);
 
-            initCurtain(context, attrSet);
+            initCurtain(keys, attrSet);
 
-            hasAtmospheric = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelAtmospheric), false);
+            hasAtmospheric = AttrUtil.getBooleanValue(attrSet, keys.mAtmospheric, false);
 
-            isCurved = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelCurved), false);
+            isCurved = AttrUtil.getBooleanValue(attrSet, keys.mCurved, false);
 
-            String textAlign = AttrUtil.getStringValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelItemAlign), "center");
+            String textAlign = AttrUtil.getStringValue(attrSet, keys.mItemAlign, "center");
 
             mItemAlign = getItemTextAlign(textAlign.toLowerCase(Locale.ENGLISH));
 
-            initTextFont(context, attrSet);
-        }
-
-        private void initTextFont(Context context, AttrSet attrSet) {
-            fontPath = AttrUtil.getStringValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelFontPath), "");
+            fontPath = AttrUtil.getStringValue(attrSet, keys.mFontPath, "");
         }
 
-        private void initCurtain(Context context, AttrSet attrSet) {
-            hasCurtain = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelCurtain), false);
+        private void initCurtain(AttrKeys keys, AttrSet attrSet) {
+            hasCurtain = AttrUtil.getBooleanValue(attrSet, keys.mCurtain, false);
 
-            mCurtainColor = AttrUtil.getColorValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelCurtainColor), 0x88FFFFFF);
+            mCurtainColor = AttrUtil.getColorValue(attrSet, keys.mCurtainColor, 0x88FFFFFF);
         }
 
-        private void initIndicator(Context context, AttrSet attrSet) {
-            hasIndicator = AttrUtil.getBooleanValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelIndicator), false);
-            mIndicatorColor = AttrUtil.getColorValue(attrSet, AttrUtil
-                    .getString(context, ResourceTable.String_wheelIndicatorColor), 0xFFEE3333);
+        private void initIndicator(AttrKeys keys, AttrSet attrSet) {
+            hasIndicator = AttrUtil.getBooleanValue(attrSet, keys.mIndicator, false);
+            mIndicatorColor = AttrUtil.getColorValue(attrSet, keys.mIndicatorColor, 0xFFEE3333);
 
-            mIndicatorSize = (int) AttrUtil.getDimension(attrSet, AttrUtil
-                            .getString(context, ResourceTable.String_wheelIndicatorSize),
-                    AttrUtil.getDimen(context, ResourceTable.Float_WheelIndicatorSize));
+            mIndicatorSize = (int) AttrUtil.getDimension(attrSet, keys.mIndicatorSize, keys.mDefaultIndicatorSize);
         }
 
         private int getItemTextAlign(String s) {
@@ -471,34 +542,194 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         }
     }
 
-    private void updateVisibleItemCount() {
-        if (mVisibleItemCount < 2) {
-            throw new ArithmeticException("Wheel's visible item count can not be less than 2!");
+    private static List<String> getDefaultData(Context context) {
+        List<String> data = sDefaultData;
+        if (null == data) {
+            synchronized (WheelPicker.class) {
+                data = sDefaultData;
+                if (null == data) {
+                    data = new DefaultData(loadDefaultData(context));
+                    sDefaultData = data;
+                }
+            }
+        }
+        return data;
+    }
+
+    private static String[] loadDefaultData(Context context) {
+        try {
+            return context.getResourceManager().getElement(ResourceTable.Strarray_WheelArrayDefault)
+                    .getStringArray();
+        } catch (IOException | WrongTypeException | NotExistException e) {
+            LogUtil.error(TAG, "loadDefaultData : " + e.getMessage());
+            return new String[0];
         }
+    }
 
-        // Be sure count of visible item is odd number
-        if (mVisibleItemCount % 2 == 0) {
-            mVisibleItemCount += 1;
+    /**
+     * Attribute names and default dimensions of the wheel, resolved from resources once and shared
+     * by every picker so that construction does no resource lookups. Resolved again only when the
+     * screen density, which the default dimensions depend on, changes.
+     */
+    private static final class AttrKeys {
+        private static volatile AttrKeys sInstance;
+
+        private final int mScreenDensity;
+
+        private final String mItemTextSize;
+        private final String mVisibleItemCount;
+        private final String mSelectedItemPosition;
+        private final String mSameWidth;
+        private final String mMaximumWidthTextPosition;
+        private final String mMaximumWidthText;
+        private final String mSelectedItemTextColor;
+        private final String mItemTextColor;
+        private final String mItemSpace;
+        private final String mCyclic;
+        private final String mIndicator;
+        private final String mIndicatorColor;
+        private final String mIndicatorSize;
+        private final String mCurtain;
+        private final String mCurtainColor;
+        private final String mAtmospheric;
+        private final String mCurved;
+        private final String mItemAlign;
+        private final String mFontPath;
+
+        private final float mDefaultItemTextSize;
+        private final float mDefaultItemSpace;
+        private final float mDefaultIndicatorSize;
+
+        private AttrKeys(Context context, int screenDensity) {
+            mScreenDensity = screenDensity;
+            mItemTextSize = AttrUtil.getString(context, ResourceTable.String_wheelItemTextSize);
+            mVisibleItemCount = AttrUtil.getString(context, ResourceTable.String_wheelVisibleItemCount);
+            mSelectedItemPosition = AttrUtil.getString(context, ResourceTable.String_wheelSelectedItemPosition);
+            mSameWidth = AttrUtil.getString(context, ResourceTable.String_wheelSameWidth);
+            mMaximumWidthTextPosition = AttrUtil.getString(context,
+                    ResourceTable.String_wheelMaximumWidthTextPosition);
+            mMaximumWidthText = AttrUtil.getString(context, ResourceTable.String_wheelMaximumWidthText);
+            mSelectedItemTextColor = AttrUtil.getString(context, ResourceTable.String_wheelSelectedItemTextColor);
+            mItemTextColor = AttrUtil.getString(context, ResourceTable.String_wheelItemTextColor);
+            mItemSpace = AttrUtil.getString(context, ResourceTable.String_wheelItemSpace);
+            mCyclic = AttrUtil.getString(context, ResourceTable.String_wheelCyclic);
+            mIndicator = AttrUtil.getString(context, ResourceTable.String_wheelIndicator);
+            mIndicatorColor = AttrUtil.getString(context, ResourceTable.String_wheelIndicatorColor);
+            mIndicatorSize = AttrUtil.getString(context, ResourceTable.String_wheelIndicatorSize);
+            mCurtain = AttrUtil.getString(context, ResourceTable.String_wheelCurtain);
+            mCurtainColor = AttrUtil.getString(context, ResourceTable.String_wheelCurtainColor);
+            mAtmospheric = AttrUtil.getString(context, ResourceTable.String_wheelAtmospheric);
+            mCurved = AttrUtil.getString(context, ResourceTable.String_wheelCurved);
+            mItemAlign = AttrUtil.getString(context, ResourceTable.String_wheelItemAlign);
+            mFontPath = AttrUtil.getString(context, ResourceTable.String_wheelFontPath);
+            mDefaultItemTextSize = AttrUtil.getDimen(context, ResourceTable.Float_WheelItemTextSize);
+            mDefaultItemSpace = AttrUtil.getDimen(context, ResourceTable.Float_WheelItemSpace);
+            mDefaultIndicatorSize = AttrUtil.getDimen(context, ResourceTable.Float_WheelIndicatorSize);
+        }
+
+        static AttrKeys obtain(Context context) {
+            int screenDensity = context.getResourceManager().getDeviceCapability().screenDensity;
+            AttrKeys keys = sInstance;
+            if (null == keys || keys.mScreenDensity != screenDensity) {
+                keys = new AttrKeys(context, screenDensity);
+                sInstance = keys;
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Immutable pending update handed from any thread to the main thread, the latest data and the
+     * latest position win.
+     */
+    private static final class Handoff {
+        static final int NO_POSITION = -1;
+
+        private final List mData;
+
+        private final int mPosition;
+
+        Handoff(List data, int position) {
+            mData = data;
+            mPosition = position;
+        }
+
+        Handoff merge(List data, int position) {
+            if (null != data) {
+                // New data resets the selection like setData does, unless a position comes with it
+                return new Handoff(data, position);
+            }
+            return new Handoff(mData, position);
+        }
+    }
+
+    /**
+     * Items shown until the data is set, loaded once and shared by every picker. Reports its
+     * widest item so a picker whose data is replaced right after construction measures one text.
+     */
+    private static final class DefaultData extends AbstractList<String> implements RandomAccess, IWidestTextHint {
+        private final String[] mItems;
+
+        private final String mWidestItem;
+
+        DefaultData(String[] items) {
+            mItems = items;
+            String widest = null;
+            for (String item : items) {
+                if (null == widest || item.length() > widest.length()) {
+                    widest = item;
+                }
+            }
+            mWidestItem = widest;
         }
-        mDrawnItemCount = mVisibleItemCount + 2;
-        mHalfDrawnItemCount = mDrawnItemCount / 2;
+
+        @Override
+        public String get(int index) {
+            return mItems[index];
+        }
+
+        @Override
+        public int size() {
+            return mItems.length;
+        }
+
+        @Override
+        public String getWidestText() {
+            return mWidestItem;
+        }
+    }
+
+    private void updateVisibleItemCount() {
+        // Be sure count of visible item is odd number
+        mLayout.setVisibleItemCount(mVisibleItemCount);
+        mVisibleItemCount = mLayout.getVisibleItemCount();
     }
 
     private void computeTextSize() {
+        computeTextSize(null);
+    }
+
+    /**
+     * Compute the text size.
+     *
+     * @param knownWidths widths of items measured before, -1 for items to measure, or null
+     */
+    private void computeTextSize(int[] knownWidths) {
         mTextMaxWidth = 0;
         mTextMaxHeight = 0;
+        mItemWidths = null;
         if (hasSameWidth) {
-            mTextMaxWidth = (int) mPaint.measureText(String.valueOf(mData.get(0)));
+            mTextMaxWidth = mData.isEmpty() ? 0 : (int) mPaint.measureText(getItemText(0));
         } else if (isPosInRang(mTextMaxWidthPosition)) {
-            mTextMaxWidth = (int) mPaint.measureText(String.valueOf(mData.get(mTextMaxWidthPosition)));
+            mTextMaxWidth = (int) mPaint.measureText(getItemText(mTextMaxWidthPosition));
         } else if (!TextTool.isNullOrEmpty(mMaxWidthText)) {
             mTextMaxWidth = (int) mPaint.measureText(mMaxWidthText);
+        } else if (mData instanceof IWidestTextHint && null != ((IWidestTextHint) mData).getWidestText()) {
+            mTextMaxWidth = (int) mPaint.measureText(((IWidestTextHint) mData).getWidestText());
         } else {
-            for (Object obj : mData) {
-                String text = String.valueOf(obj);
-                int width = (int) mPaint.measureText(text);
-                mTextMaxWidth = Math.max(mTextMaxWidth, width);
-            }
+            int[] widths = new int[mData.size()];
+            mTextMaxWidth = WidestItemSearch.measure(mData, mPaint::measureText, knownWidths, widths);
+            mItemWidths = widths;
         }
         Paint.FontMetrics metrics = mPaint.getFontMetrics();
         mTextMaxHeight = (int) (metrics.bottom - metrics.top);
@@ -527,10 +758,8 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         int resultWidth = mTextMaxWidth;
         int resultHeight = mTextMaxHeight * mVisibleItemCount + mItemSpace * (mVisibleItemCount - 1);
 
-        // Correct view sizes again if curved is enable
-        if (isCurved) {
-            resultHeight = (int) (2 * resultHeight / Math.PI);
-        }
+        // Correct view sizes again for the renderer, the curved ones are lower
+        resultHeight = mActiveRenderer.getContentHeight(resultHeight);
         if (isDebug) {
             LogUtil.error(TAG, "Wheel's content size is (" + resultWidth + ":" + resultHeight + ")");
         }
@@ -552,8 +781,13 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
      */
     public void onSizeChanged() {
         // Set content region
-        mRectDrawn.set(getPaddingLeft(), getPaddingTop(), getWidth() - getPaddingRight(),
-                getHeight() - getPaddingBottom());
+        int right = getWidth() - getPaddingRight();
+        int bottom = getHeight() - getPaddingBottom();
+        if (mRectDrawn.left != getPaddingLeft() || mRectDrawn.top != getPaddingTop()
+                || mRectDrawn.right != right || mRectDrawn.bottom != bottom) {
+            isRendererDirty = true;
+        }
+        mRectDrawn.set(getPaddingLeft(), getPaddingTop(), right, bottom);
         if (isDebug) {
             LogUtil.error(TAG, "Wheel's drawn rect size is (" + mRectDrawn.getWidth() + ":"
                     + mRectDrawn.getHeight() + ") and location is (" + mRectDrawn.left + ":"
@@ -567,10 +801,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         // Correct item drawn center
         computeDrawnCenter();
 
-        mHalfWheelHeight = mRectDrawn.getHeight() / 2;
-
-        mItemHeight = mRectDrawn.getHeight() / mVisibleItemCount;
-        mHalfItemHeight = mItemHeight / 2;
+        mLayout.setWheelHeight(mRectDrawn.getHeight());
 
         // Initialize fling max Y-coordinates
         computeFlingLimitY();
@@ -580,6 +811,12 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
 
         // Correct region of current select item
         computeCurrentItemRect();
+
+        if (mDrawnCenterX != mRenderConfig.mDrawnCenterX || mDrawnCenterY != mRenderConfig.mDrawnCenterY
+                || mLayout.getItemHeight() != mRenderConfig.mItemHeight
+                || mLayout.getHalfDrawnItemCount() != mRenderConfig.mHalfDrawnItemCount) {
+            isRendererDirty = true;
+        }
     }
 
     private void computeDrawnCenter() {
@@ -598,10 +835,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     }
 
     private void computeFlingLimitY() {
-        int currentItemOffset = mSelectedItemPosition * mItemHeight;
-        mMinFlingY = isCyclic ? Integer.MIN_VALUE :
-                -mItemHeight * (mData.size() - 1) + currentItemOffset;
-        mMaxFlingY = isCyclic ? Integer.MAX_VALUE : currentItemOffset;
+        mScrollState.computeFlingLimits(mData.size());
     }
 
     private void computeIndicatorRect() {
@@ -609,8 +843,8 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
             return;
         }
         int halfIndicatorSize = mIndicatorSize / 2;
-        int indicatorHeadCenterY = mWheelCenterY + mHalfItemHeight;
-        int indicatorFootCenterY = mWheelCenterY - mHalfItemHeight;
+        int indicatorHeadCenterY = mWheelCenterY + mLayout.getHalfItemHeight();
+        int indicatorFootCenterY = mWheelCenterY - mLayout.getHalfItemHeight();
         mRectIndicatorHead.set(mRectDrawn.left, indicatorHeadCenterY - halfIndicatorSize,
                 mRectDrawn.right, indicatorHeadCenterY + halfIndicatorSize);
         mRectIndicatorFoot.set(mRectDrawn.left, indicatorFootCenterY - halfIndicatorSize,
@@ -621,53 +855,64 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         if (!hasCurtain && mSelectedItemTextColor == -1) {
             return;
         }
-        mRectCurrentItem.set(mRectDrawn.left, mWheelCenterY - mHalfItemHeight, mRectDrawn.right,
-                mWheelCenterY + mHalfItemHeight);
+        mRectCurrentItem.set(mRectDrawn.left, mWheelCenterY - mLayout.getHalfItemHeight(), mRectDrawn.right,
+                mWheelCenterY + mLayout.getHalfItemHeight());
     }
 
     @Override
     public void onDraw(Component component, Canvas canvas) {
+        if (isLatencyTracing) {
+            mLatencyTrace.onDraw(System.nanoTime());
+        }
+        if (!isMetricsEnabled) {
+            drawWheel(canvas);
+            return;
+        }
+        long start = System.nanoTime();
+        int itemsDrawn = drawWheel(canvas);
+        mMetrics.recordFrame((System.nanoTime() - start) / NANOS_PER_MICRO, itemsDrawn);
+    }
+
+    /**
+     * Draw the wheel.
+     *
+     * @param canvas canvas
+     * @return number of items drawn
+     */
+    private int drawWheel(Canvas canvas) {
         onMeasure();
 
         if (null != mOnWheelChangeListener) {
-            mOnWheelChangeListener.onWheelScrolled(mScrollOffsetY);
+            mOnWheelChangeListener.onWheelScrolled(mScrollState.getScrollOffsetY());
         }
 
         if (mData.isEmpty()) {
-            return;
+            return 0;
         }
+        int itemsDrawn = 0;
 
-        int drawnDataStartPos = -mScrollOffsetY / mItemHeight - mHalfDrawnItemCount;
-        for (int drawnDataPos = drawnDataStartPos + mSelectedItemPosition,
-             drawnOffsetPos = -mHalfDrawnItemCount;
-             drawnDataPos < drawnDataStartPos + mSelectedItemPosition + mDrawnItemCount;
-             drawnDataPos++, drawnOffsetPos++) {
-
-            mPaint.setColor(new Color(mItemTextColor));
-            mPaint.setStyle(Paint.Style.FILL_STYLE);
-            int mDrawnItemCenterY = mDrawnCenterY + (drawnOffsetPos * mItemHeight)
-                    + mScrollOffsetY % mItemHeight;
-
-            int distanceToCenter = 0;
-            if (isCurved) {
-                distanceToCenter = addCurved(mDrawnItemCenterY);
-            }
-            if (hasAtmospheric) {
-                addAtmospheric(mDrawnItemCenterY);
-            }
-            // Calculate the center coordinates of the data item in the Y direction
-            // according to whether it is curled or not
-            // Correct item's drawn centerY base on curved state
-            int drawnCenterY = isCurved ? mDrawnCenterY - distanceToCenter : mDrawnItemCenterY;
+        float fadeProgress = 1;
+        if (null != mFadingPositions) {
+            fadeProgress = Math.min(1, (mClock.now() - mFadeStartTime) / (float) FADE_DURATION);
+        }
 
+        if (isRendererDirty) {
+            configureRenderer();
+        }
+        WheelRenderer renderer = mActiveRenderer;
+        int scrollOffsetY = mScrollState.getScrollOffsetY();
+        int drawnDataStartPos = mLayout.getFirstDrawnPosition(scrollOffsetY, mScrollState.getSelectedItemPosition());
+        mPaint.setStyle(Paint.Style.FILL_STYLE);
+        for (int drawnDataPos = drawnDataStartPos,
+             drawnOffsetPos = -mLayout.getHalfDrawnItemCount();
+             drawnDataPos < drawnDataStartPos + mLayout.getDrawnItemCount();
+             drawnDataPos++, drawnOffsetPos++) {
             String data = handleCyclic(drawnDataPos);
-
-            // Judges need to draw different color for current item or not
-            addItemColor(canvas, data, drawnCenterY);
-
-            if (isDebug) {
-                handleDebug(canvas, drawnOffsetPos);
+            if (!data.isEmpty()) {
+                itemsDrawn++;
             }
+            float fade = fadeProgress < 1 ? getFade(drawnDataPos, fadeProgress) : 1;
+            renderer.drawItem(canvas, data, mLayout.getItemOffsetY(drawnOffsetPos, scrollOffsetY), fade);
         }
         // Need to draw curtain or not
         if (hasCurtain) {
@@ -678,19 +923,27 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
             addIndicator(canvas);
         }
         if (isDebug) {
+            for (int drawnOffsetPos = -mLayout.getHalfDrawnItemCount();
+                 drawnOffsetPos <= mLayout.getHalfDrawnItemCount(); drawnOffsetPos++) {
+                handleDebug(canvas, drawnOffsetPos);
+            }
             handleDebug(canvas);
         }
+        if (fadeProgress < 1) {
+            mClock.post(this::invalidate, FRAME_INTERVAL);
+        } else {
+            mFadingPositions = null;
+        }
+        return itemsDrawn;
     }
 
     private String handleCyclic(int drawnDataPos) {
         String data = "";
-        if (isCyclic) {
-            int actualPos = drawnDataPos % mData.size();
-            actualPos = actualPos < 0 ? (actualPos + mData.size()) : actualPos;
-            data = String.valueOf(mData.get(actualPos));
+        if (mScrollState.isCyclic()) {
+            data = getItemText(CyclicIndex.wrap(drawnDataPos, mData.size()));
         } else {
             if (isPosInRang(drawnDataPos)) {
-                data = String.valueOf(mData.get(drawnDataPos));
+                data = getItemText(drawnDataPos);
             }
         }
         return data;
@@ -709,13 +962,14 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         canvas.save();
         canvas.clipRect(mRectDrawn);
         mPaint.setColor(new Color(0xFFEE3333));
-        int lineCenterY = mWheelCenterY + (drawnOffsetPos * mItemHeight);
+        int itemHeight = mLayout.getItemHeight();
+        int lineCenterY = mWheelCenterY + (drawnOffsetPos * itemHeight);
         canvas.drawLine(mRectDrawn.left, lineCenterY, mRectDrawn.right, lineCenterY,
                 mPaint);
         mPaint.setColor(new Color(0xFF3333EE));
         mPaint.setStyle(Paint.Style.STROKE_STYLE);
-        int top = lineCenterY - mHalfItemHeight;
-        canvas.drawRect(mRectDrawn.left, top, mRectDrawn.right, (float) top + mItemHeight, mPaint);
+        int top = lineCenterY - mLayout.getHalfItemHeight();
+        canvas.drawRect(mRectDrawn.left, top, mRectDrawn.right, (float) top + itemHeight, mPaint);
         canvas.restore();
     }
 
@@ -732,202 +986,153 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         canvas.drawRect(mRectCurrentItem, mPaint);
     }
 
-    private void addItemColor(Canvas canvas, String data, int drawnCenterY) {
-        if (mSelectedItemTextColor != -1) {
-            canvas.save();
-            if (isCurved) {
-                canvas.concat(mMatrixRotate);
-            }
-            RectFloat rectFloat = new RectFloat(mRectCurrentItem);
-            canvas.clipRect(rectFloat, Canvas.ClipOp.DIFFERENCE);
-            canvas.drawText(mPaint, data, mDrawnCenterX, drawnCenterY);
-            canvas.restore();
-
-            mPaint.setColor(new Color(mSelectedItemTextColor));
-            canvas.save();
-            if (isCurved) {
-                canvas.concat(mMatrixRotate);
+    private void selectRenderer() {
+        WheelRenderer renderer = mRenderer;
+        if (null == renderer) {
+            if (null == mDefaultRenderer || (mDefaultRenderer instanceof CurvedWheelRenderer) != isCurved) {
+                mDefaultRenderer = isCurved ? new CurvedWheelRenderer() : new FlatWheelRenderer();
             }
-            canvas.clipRect(mRectCurrentItem);
-            canvas.drawText(mPaint, data, mDrawnCenterX, drawnCenterY);
-            canvas.restore();
-        } else {
-            canvas.save();
-            canvas.clipRect(mRectDrawn);
-            if (isCurved) {
-                canvas.concat(mMatrixRotate);
-            }
-            canvas.drawText(mPaint, data, mDrawnCenterX, drawnCenterY);
-            canvas.restore();
-        }
-    }
-
-    private void addAtmospheric(int mDrawnItemCenterY) {
-        int alpha = (int) ((mDrawnCenterY - Math.abs(mDrawnCenterY - mDrawnItemCenterY))
-                * 1.0F / mDrawnCenterY * 255);
-        alpha = Math.max(alpha, 0);
-        mPaint.setAlpha(alpha);
-    }
-
-    private int addCurved(int mDrawnItemCenterY) {
-        // Correct ratio of item's drawn center to wheel center
-        float ratio = (mDrawnCenterY - Math.abs(mDrawnCenterY - mDrawnItemCenterY)
-                - mRectDrawn.top) * 1.0F / (mDrawnCenterY - mRectDrawn.top);
-
-        // Correct unit
-        int unit = 0;
-        if (mDrawnItemCenterY > mDrawnCenterY) {
-            unit = 1;
-        } else if (mDrawnItemCenterY < mDrawnCenterY) {
-            unit = -1;
+            renderer = mDefaultRenderer;
         }
-
-        float degree = (-(1 - ratio) * 90 * unit);
-        if (degree < -90) {
-            degree = -90;
-        }
-        if (degree > 90) {
-            degree = 90;
-        }
-        int distanceToCenter = computeSpace((int) degree);
-
-        int transX = mWheelCenterX;
-        switch (mItemAlign) {
-            case ALIGN_LEFT:
-                transX = mRectDrawn.left;
-                break;
-            case ALIGN_RIGHT:
-                transX = mRectDrawn.right;
-                break;
-            default:
-                break;
+        if (renderer != mActiveRenderer) {
+            mActiveRenderer = renderer;
+            isRendererDirty = true;
         }
-        int transY = mWheelCenterY - distanceToCenter;
-
-        ThreeDimView mThreeDimView = new ThreeDimView();
-        mThreeDimView.rotateX(degree);
-        mThreeDimView.getMatrix(mMatrixRotate);
-
-        mMatrixRotate.preTranslate(-transX, -transY);
-        mMatrixRotate.postTranslate(transX, transY);
-        mMatrixDepth.preTranslate(-transX, -transY);
-        mMatrixDepth.postTranslate(transX, transY);
+    }
 
-        mMatrixRotate.postConcat(mMatrixDepth);
-        return distanceToCenter;
+    private void configureRenderer() {
+        mRenderConfig.mPaint = mPaint;
+        mRenderConfig.mRectDrawn = mRectDrawn;
+        mRenderConfig.mRectCurrentItem = mRectCurrentItem;
+        mRenderConfig.mDrawnCenterX = mDrawnCenterX;
+        mRenderConfig.mDrawnCenterY = mDrawnCenterY;
+        mRenderConfig.mWheelCenterX = mWheelCenterX;
+        mRenderConfig.mWheelCenterY = mWheelCenterY;
+        mRenderConfig.mItemHeight = mLayout.getItemHeight();
+        mRenderConfig.mHalfWheelHeight = mLayout.getHalfWheelHeight();
+        mRenderConfig.mHalfDrawnItemCount = mLayout.getHalfDrawnItemCount();
+        mRenderConfig.mItemTextColor = mItemTextColor;
+        mRenderConfig.mSelectedItemTextColor = mSelectedItemTextColor;
+        mRenderConfig.mItemAlign = mItemAlign;
+        mRenderConfig.hasAtmospheric = hasAtmospheric;
+        mActiveRenderer.configure(mRenderConfig);
+        isRendererDirty = false;
     }
 
     private boolean isPosInRang(int position) {
         return position >= 0 && position < mData.size();
     }
 
-    private int computeSpace(int degree) {
-        return (int) (Math.sin(Math.toRadians(degree)) * mHalfWheelHeight);
-    }
-
     @Override
     public boolean onTouchEvent(Component component, TouchEvent event) {
-        final int activePointerIndex = event.getIndex();
-        MmiPoint point = event.getPointerScreenPosition(activePointerIndex);
-
+        float pointY = event.getPointerScreenPosition(event.getIndex()).getY();
+        if (!(mClock instanceof MainWheelClock)) {
+            return handleTouch(event.getAction(), pointY, event.getOccurredTime());
+        }
         switch (event.getAction()) {
             case TouchEvent.PRIMARY_POINT_DOWN:
-                handleDownMovement(event, point);
-                break;
-            case TouchEvent.POINT_MOVE:
-                if (Math.abs(mDownPointY - point.getY()) < mTouchSlop) {
-                    isClick = true;
-                    break;
+                if (null == mVelocityDetector) {
+                    mVelocityDetector = VelocityDetector.obtainInstance();
+                } else {
+                    mVelocityDetector.clear();
                 }
-                isClick = false;
                 mVelocityDetector.addEvent(event);
-                if (null != mOnWheelChangeListener) {
-                    mOnWheelChangeListener.onWheelScrollStateChanged(SCROLL_STATE_DRAGGING);
-                }
-
-                // Scroll WheelPicker's content
-                float move = point.getY() - mLastPointY;
-                if (Math.abs(move) < 1) {
-                    break;
-                }
-                mScrollOffsetY += move;
-                mLastPointY = (int) point.getY();
-                new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
                 break;
-            case TouchEvent.PRIMARY_POINT_UP:
-                if (isClick  && ! isForceFinishScroll) {
-                    break;
+            case TouchEvent.POINT_MOVE:
+                if (null != mVelocityDetector) {
+                    mVelocityDetector.addEvent(event);
                 }
-                handleUpMovement(event);
                 break;
-            case TouchEvent.CANCEL:
+            case TouchEvent.PRIMARY_POINT_UP:
+                int velocity = 0;
                 if (null != mVelocityDetector) {
-                    mVelocityDetector.clear();
-                    mVelocityDetector = null;
+                    mVelocityDetector.addEvent(event);
+                    mVelocityDetector.calculateCurrentVelocity(1000);
+                    velocity = (int) mVelocityDetector.getVerticalVelocity();
+                    releaseVelocityDetector();
                 }
+                handleRelease(mScrollState.onUp(velocity));
+                return true;
+            case TouchEvent.CANCEL:
+                releaseVelocityDetector();
                 break;
             default:
                 break;
         }
-        return true;
+        return handleTouch(event.getAction(), pointY, event.getOccurredTime());
     }
 
-    private void handleDownMovement(TouchEvent event, MmiPoint point) {
-        isTouchTriggered = true;
-        if (null == mVelocityDetector) {
-            mVelocityDetector = VelocityDetector.obtainInstance();
-        } else {
+    private void releaseVelocityDetector() {
+        if (null != mVelocityDetector) {
             mVelocityDetector.clear();
+            mVelocityDetector = null;
         }
-        mVelocityDetector.addEvent(event);
-        if (!mScroller.isFinished()) {
-            mScroller.abortAnimation();
-            isForceFinishScroll = true;
-        }
-        mDownPointY = mLastPointY = (int) point.getY();
     }
 
-    private void handleUpMovement(TouchEvent event) {
-        mVelocityDetector.addEvent(event);
-        mVelocityDetector.calculateCurrentVelocity(1000);
-
-        // Judges the WheelPicker is scroll or fling base on current velocity
-        isForceFinishScroll = false;
-        int velocity = (int) mVelocityDetector.getVerticalVelocity();
-        if (Math.abs(velocity) > mMinimumVelocity) {
-            mScroller.doFling(0, mScrollOffsetY, 0, velocity, 0, 0, mMinFlingY, mMaxFlingY);
-            mScroller.startScrollY(mScroller.getCurrValue(AXIS_Y)  +  computeDistanceToEndPoint(
-                    mScroller.getCurrValue(AXIS_Y) % mItemHeight), 0);
-        } else {
-            mScroller.startScroll(0, mScrollOffsetY, 0,
-                    computeDistanceToEndPoint(mScrollOffsetY % mItemHeight));
-        }
-        // Correct coordinates
-        if  (!isCyclic)  {
-            if  (mScroller.getCurrValue(AXIS_Y) > mMaxFlingY) {
-                mScroller.startScrollY(mMaxFlingY, 0);
-            }  else if (mScroller.getCurrValue(ScrollHelper.AXIS_Y) < mMinFlingY) {
-                mScroller.startScrollY(mMinFlingY, 0);
-            }
+    /**
+     * Handle a touch, what {@link #onTouchEvent(Component, TouchEvent)} does with a touch event,
+     * except that the release velocity is computed from the given times instead of by the platform.
+     * Replaying recorded touches here with a manual {@link WheelClock} gives the same animation
+     * on every run.
+     *
+     * @param action touch action, such as {@link TouchEvent#PRIMARY_POINT_DOWN}
+     * @param pointY vertical position of the touch
+     * @param eventTime time of the touch in milliseconds, only differences matter
+     * @return true, the wheel consumes every touch
+     */
+    public boolean handleTouch(int action, float pointY, long eventTime) {
+        switch (action) {
+            case TouchEvent.PRIMARY_POINT_DOWN:
+                isTouchTriggered = true;
+                mScrollState.onDown(pointY, eventTime);
+                break;
+            case TouchEvent.POINT_MOVE:
+                handleMove(mScrollState.onMove(pointY, eventTime));
+                break;
+            case TouchEvent.PRIMARY_POINT_UP:
+                handleRelease(mScrollState.onUp(pointY, eventTime));
+                break;
+            case TouchEvent.CANCEL:
+                mScrollState.onCancel();
+                break;
+            default:
+                break;
         }
-        mEventHandler.postTask(this);
-        if (null != mVelocityDetector) {
-            mVelocityDetector.clear();
-            mVelocityDetector = null;
+        return true;
+    }
+
+    private void handleMove(int events) {
+        if ((events & WheelScrollState.EVENT_DRAGGING) != 0 && null != mOnWheelChangeListener) {
+            mOnWheelChangeListener.onWheelScrollStateChanged(SCROLL_STATE_DRAGGING);
+        }
+        if ((events & WheelScrollState.EVENT_MOVED) == 0) {
+            return;
+        }
+        // Scroll WheelPicker's content
+        if (isLatencyTracing) {
+            mLatencyTrace.onMove(System.nanoTime());
+            mClock.post(this::invalidateTraced, 0);
+        } else {
+            mClock.post(this::invalidate, 0);
         }
     }
 
+    private void invalidateTraced() {
+        if (isLatencyTracing) {
+            mLatencyTrace.onInvalidateDispatched(System.nanoTime());
+        }
+        invalidate();
+    }
 
-    private int computeDistanceToEndPoint(int remainder) {
-        if (Math.abs(remainder) > mHalfItemHeight) {
-            if (mScrollOffsetY < 0) {
-                return -mItemHeight - remainder;
-            } else {
-                return mItemHeight - remainder;
-            }
-        } else {
-            return -remainder;
+    private void handleRelease(int events) {
+        if ((events & WheelScrollState.EVENT_RELEASED) == 0) {
+            return;
         }
+        if (isMetricsEnabled) {
+            mReleaseTime = mClock.now();
+            isFlingReleased = (events & WheelScrollState.EVENT_FLUNG) != 0;
+        }
+        mClock.post(this, 0);
     }
 
     @Override
@@ -935,23 +1140,32 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         if (null == mData || mData.isEmpty()) {
             return;
         }
-        if (mScroller.isFinished() && !isForceFinishScroll) {
-            if (mItemHeight == 0) {
-                return;
-            }
-            int position = (-mScrollOffsetY / mItemHeight + mSelectedItemPosition) % mData.size();
-            position = position < 0 ? position + mData.size() : position;
+        int events = mScrollState.tick(mData.size());
+        if ((events & WheelScrollState.EVENT_SETTLED) != 0) {
+            int position = mScrollState.getCurrentItemPosition();
             if (isDebug) {
-                LogUtil.info(TAG, position + ":" + mData.get(position) + ":" + mScrollOffsetY);
+                LogUtil.info(TAG, position + ":" + mData.get(position) + ":" + mScrollState.getScrollOffsetY());
             }
-            mCurrentItemPosition = position;
             handleListener(position);
+            recordSettle();
         }
-        if (mScroller.updateScroll()) {
+        if ((events & WheelScrollState.EVENT_MOVED) != 0) {
             handleUpdateScroll();
         }
     }
 
+    private void recordSettle() {
+        if (!isMetricsEnabled || mReleaseTime == 0) {
+            return;
+        }
+        long duration = mClock.now() - mReleaseTime;
+        mMetrics.recordSettle(duration);
+        if (isFlingReleased) {
+            mMetrics.recordFlingSettle(duration);
+        }
+        mReleaseTime = 0;
+    }
+
     private void handleListener(int position) {
         if (isTouchTriggered && null != mOnItemSelectedListener) {
             mOnItemSelectedListener.onItemSelected(this, mData.get(position), position);
@@ -966,9 +1180,53 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         if (null != mOnWheelChangeListener) {
             mOnWheelChangeListener.onWheelScrollStateChanged(SCROLL_STATE_SCROLLING);
         }
-        mScrollOffsetY = mScroller.getCurrValue(AXIS_Y);
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
-        mEventHandler.postTask(this, 16);
+        invalidate();
+        mClock.post(this, FRAME_INTERVAL);
+    }
+
+    /**
+     * Set the clock timing and scheduling the animations of the wheel.
+     * Any other clock than the default also replaces the platform scroller by one computing the
+     * offsets from the time of the clock, and the platform velocity detector by one fed with the
+     * event times, so that a clock advanced by hand, with touches replayed through
+     * {@link #handleTouch(int, float, long)}, gives reproducible scrolling for tests and benchmarks.
+     * A running animation is stopped.
+     *
+     * @param clock clock
+     */
+    public void setClock(WheelClock clock) {
+        if (null == clock) {
+            throw new NullPointerException("WheelClock can not be null!");
+        }
+        checkOwnerThread();
+        mClock = clock;
+        mScrollState.setScroller(clock instanceof MainWheelClock
+                ? new PlatformWheelScroller() : new DecelerateScroller(clock::now));
+    }
+
+    public WheelClock getClock() {
+        return mClock;
+    }
+
+    /**
+     * Set the renderer drawing the items, for example a {@link CylinderWheelRenderer}.
+     * Without one the wheel is drawn by a {@link FlatWheelRenderer}, or a {@link CurvedWheelRenderer}
+     * while {@link #setCurved(boolean)} is on. A renderer draws a single wheel.
+     *
+     * @param renderer renderer, or null for the default one
+     */
+    public void setRenderer(WheelRenderer renderer) {
+        mRenderer = renderer;
+        requestUpdate(UPDATE_RENDERER | UPDATE_LAYOUT);
+    }
+
+    /**
+     * Get the renderer set with {@link #setRenderer(WheelRenderer)}.
+     *
+     * @return renderer, or null if the default one is used
+     */
+    public WheelRenderer getRenderer() {
+        return mRenderer;
     }
 
     @Override
@@ -976,6 +1234,52 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         this.isDebug = isDebug;
     }
 
+    @Override
+    public void setMetricsEnabled(boolean isEnabled) {
+        if (isEnabled && null == mMetrics) {
+            mMetrics = new WheelMetrics();
+        }
+        isMetricsEnabled = isEnabled;
+        mReleaseTime = 0;
+    }
+
+    @Override
+    public boolean isMetricsEnabled() {
+        return isMetricsEnabled;
+    }
+
+    @Override
+    public WheelMetrics getMetrics() {
+        if (null == mMetrics) {
+            mMetrics = new WheelMetrics();
+        }
+        return mMetrics;
+    }
+
+    @Override
+    public void resetMetrics() {
+        if (null != mMetrics) {
+            mMetrics.reset();
+        }
+        mReleaseTime = 0;
+    }
+
+    @Override
+    public void setLatencyTracingEnabled(boolean isEnabled) {
+        if (isEnabled && null == mLatencyTrace) {
+            mLatencyTrace = new WheelLatencyTrace();
+        }
+        isLatencyTracing = isEnabled;
+    }
+
+    @Override
+    public WheelLatencyTrace getLatencyTrace() {
+        if (null == mLatencyTrace) {
+            mLatencyTrace = new WheelLatencyTrace();
+        }
+        return mLatencyTrace;
+    }
+
     @Override
     public int getVisibleItemCount() {
         return mVisibleItemCount;
@@ -985,20 +1289,18 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     public void setVisibleItemCount(int count) {
         mVisibleItemCount = count;
         updateVisibleItemCount();
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_LAYOUT);
     }
 
     @Override
     public boolean isCyclic() {
-        return isCyclic;
+        return mScrollState.isCyclic();
     }
 
     @Override
     public void setCyclic(boolean isCyclic) {
-        this.isCyclic = isCyclic;
-        computeFlingLimitY();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        mScrollState.setCyclic(isCyclic);
+        requestUpdate(UPDATE_FLING_LIMITS);
     }
 
     @Override
@@ -1008,7 +1310,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
 
     @Override
     public int getSelectedItemPosition() {
-        return mSelectedItemPosition;
+        return mScrollState.getSelectedItemPosition();
     }
 
     @Override
@@ -1023,36 +1325,21 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
      * @param check Boolean used for setSelectedItemPosition
      */
     public void helperSetSelectedItemPosition(int position, boolean check) {
+        checkOwnerThread();
         isTouchTriggered = false;
-        if (check && mScroller.isFinished()) {
-            int length = getData().size();
-            int itemDiff = position - mCurrentItemPosition;
-            if (itemDiff == 0) {
-                return;
-            }
-            if (isCyclic && Math.abs(itemDiff) > (length / 2)) {
-                itemDiff += (itemDiff > 0) ? -length : length;
+        if (check && mScrollState.isFinished()) {
+            if (mScrollState.scrollToPosition(position, getData().size())) {
+                mClock.post(this, 0);
             }
-            mScroller.startScroll(0, mScroller.getCurrValue(AXIS_Y), 0, (-itemDiff) * mItemHeight);
-            mEventHandler.postTask(this);
         } else {
-            if (!mScroller.isFinished()) {
-                mScroller.abortAnimation();
-            }
-            position = Math.min(position, mData.size() - 1);
-            position = Math.max(position, 0);
-            mSelectedItemPosition = position;
-            mCurrentItemPosition = position;
-            mScrollOffsetY = 0;
-            computeFlingLimitY();
-            postLayout();
-            new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+            mScrollState.jumpToPosition(position, mData.size());
+            requestUpdate(UPDATE_FLING_LIMITS | UPDATE_LAYOUT);
         }
     }
 
     @Override
     public int getCurrentItemPosition() {
-        return mCurrentItemPosition;
+        return mScrollState.getCurrentItemPosition();
     }
 
     @Override
@@ -1065,26 +1352,152 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
         if (null == data) {
             throw new NullPointerException("WheelPicker's data can not be null!");
         }
+        checkOwnerThread();
+        replaceData(data);
+    }
+
+    /**
+     * Replace the data and reset the scroll, what {@link #setData(List)} does. Not overridable, so
+     * the wheel itself can replace the data of subclasses that reject {@link #setData(List)}.
+     *
+     * @param data data source
+     */
+    private void replaceData(List data) {
+        supersedePreparedData();
+        if (mData instanceof AbstractObservableWheelData) {
+            ((AbstractObservableWheelData) mData).unregisterObserver(mDataObserver);
+        }
         mData = data;
+        if (data instanceof AbstractObservableWheelData) {
+            ((AbstractObservableWheelData) data).registerObserver(mDataObserver);
+        }
 
-        if (mSelectedItemPosition > data.size() - 1 || mCurrentItemPosition > data.size() - 1) {
-            mSelectedItemPosition = mCurrentItemPosition = data.size() - 1;
+        int lastPosition = data.size() - 1;
+        if (mScrollState.getSelectedItemPosition() > lastPosition
+                || mScrollState.getCurrentItemPosition() > lastPosition) {
+            mScrollState.setCurrentItemPosition(lastPosition);
+        }
+        mScrollState.setSelectedItemPosition(mScrollState.getCurrentItemPosition());
+        mScrollState.setScrollOffsetY(0);
+        mDataVersion++;
+        mSearchIndex = null;
+        mPendingSearchQuery = null;
+        mPositions = null;
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_FLING_LIMITS | UPDATE_LAYOUT);
+    }
+
+    @Override
+    public void setData(List data, DiffStrategy strategy) {
+        if (null == data) {
+            throw new NullPointerException("WheelPicker's data can not be null!");
+        }
+        checkOwnerThread();
+        if (null == strategy) {
+            throw new NullPointerException("Diff strategy can not be null!");
+        }
+        List oldData = mData;
+        if (null == oldData || oldData.isEmpty() || data.isEmpty()) {
+            replaceData(data);
+            return;
+        }
+        supersedePreparedData();
+        int oldCenter = getCenterItemPosition(oldData.size());
+        int[] oldToNew = WheelDataDiff.map(oldData, data, strategy);
+        int[] oldWidths = mItemWidths;
+
+        if (oldData instanceof AbstractObservableWheelData) {
+            ((AbstractObservableWheelData) oldData).unregisterObserver(mDataObserver);
+        }
+        mData = data;
+        if (data instanceof AbstractObservableWheelData) {
+            ((AbstractObservableWheelData) data).registerObserver(mDataObserver);
+        }
+
+        int newCenter;
+        int[] knownWidths = null;
+        if (null == oldToNew) {
+            // Too different to diff, still keep the selected item if it is there
+            newCenter = Math.max(0, indexOf(data, oldData.get(oldCenter), strategy));
         } else {
-            mSelectedItemPosition = mCurrentItemPosition;
+            newCenter = 0;
+            for (int i = oldCenter; i >= 0; i--) {
+                if (oldToNew[i] >= 0) {
+                    // The selected item, or the position right after the closest kept item above it
+                    newCenter = i == oldCenter ? oldToNew[i] : oldToNew[i] + 1;
+                    break;
+                }
+            }
+            newCenter = Math.min(newCenter, data.size() - 1);
+            if (null != oldWidths) {
+                knownWidths = new int[data.size()];
+                Arrays.fill(knownWidths, -1);
+                for (int i = 0; i < oldToNew.length; i++) {
+                    if (oldToNew[i] >= 0) {
+                        knownWidths[oldToNew[i]] = oldWidths[i];
+                    }
+                }
+            }
         }
-        mScrollOffsetY = 0;
-        computeTextSize();
-        computeFlingLimitY();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::postLayout);
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        keepCenterItem(newCenter);
+        startFadeIn(oldToNew, newCenter);
+
+        int oldMaxWidth = mTextMaxWidth;
+        computeTextSize(knownWidths);
+        mPendingSearchQuery = null;
+        onDataContentChanged(oldMaxWidth != mTextMaxWidth);
+    }
+
+    private static int indexOf(List data, Object item, DiffStrategy strategy) {
+        for (int i = 0; i < data.size(); i++) {
+            if (strategy.isSameItem(item, data.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fade in the visible items that are not in the old data.
+     *
+     * @param oldToNew new position of every old item, or null if nothing was matched
+     * @param center position of the item at the center
+     */
+    private void startFadeIn(int[] oldToNew, int center) {
+        boolean[] isKept = new boolean[mData.size()];
+        if (null != oldToNew) {
+            for (int position : oldToNew) {
+                if (position >= 0) {
+                    isKept[position] = true;
+                }
+            }
+        }
+        int[] fading = new int[mLayout.getDrawnItemCount()];
+        int halfDrawnItemCount = mLayout.getHalfDrawnItemCount();
+        int count = 0;
+        for (int i = center - halfDrawnItemCount; i <= center + halfDrawnItemCount && count < fading.length; i++) {
+            int position = mScrollState.isCyclic() ? CyclicIndex.wrap(i, mData.size()) : i;
+            if (position >= 0 && position < isKept.length && !isKept[position]) {
+                fading[count++] = position;
+            }
+        }
+        mFadingPositions = count == 0 ? null : Arrays.copyOf(fading, count);
+        mFadeStartTime = mClock.now();
+    }
+
+    private float getFade(int drawnDataPos, float progress) {
+        int position = mScrollState.isCyclic() ? CyclicIndex.wrap(drawnDataPos, mData.size()) : drawnDataPos;
+        for (int fading : mFadingPositions) {
+            if (fading == position) {
+                return progress;
+            }
+        }
+        return 1;
     }
 
     @Override
     public void setSameWidth(boolean hasSameWidth) {
         this.hasSameWidth = hasSameWidth;
-        computeTextSize();
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_LAYOUT);
     }
 
     @Override
@@ -1108,9 +1521,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
             throw new NullPointerException("Maximum width text can not be null!");
         }
         mMaxWidthText = text;
-        computeTextSize();
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_LAYOUT);
     }
 
     @Override
@@ -1125,9 +1536,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
                     + mData.size() + "), but current is " + position);
         }
         mTextMaxWidthPosition = position;
-        computeTextSize();
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_LAYOUT);
     }
 
     @Override
@@ -1138,8 +1547,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setSelectedItemTextColor(int color) {
         mSelectedItemTextColor = color;
-        computeCurrentItemRect();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_GEOMETRY);
     }
 
     @Override
@@ -1150,7 +1558,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setItemTextColor(int color) {
         mItemTextColor = color;
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_RENDERER);
     }
 
     @Override
@@ -1161,10 +1569,9 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setItemTextSize(int size) {
         mItemTextSize = size;
+        detachStylePaint();
         mPaint.setTextSize(mItemTextSize);
-        computeTextSize();
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_GEOMETRY | UPDATE_LAYOUT);
     }
 
     @Override
@@ -1175,15 +1582,13 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setItemSpace(int space) {
         mItemSpace = space;
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_LAYOUT);
     }
 
     @Override
     public void setIndicator(boolean hasIndicator) {
         this.hasIndicator = hasIndicator;
-        computeIndicatorRect();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_GEOMETRY);
     }
 
     @Override
@@ -1199,8 +1604,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setIndicatorSize(int size) {
         mIndicatorSize = size;
-        computeIndicatorRect();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_GEOMETRY);
     }
 
     @Override
@@ -1211,14 +1615,13 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setIndicatorColor(int color) {
         mIndicatorColor = color;
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_DRAW);
     }
 
     @Override
     public void setCurtain(boolean hasCurtain) {
         this.hasCurtain = hasCurtain;
-        computeCurrentItemRect();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_GEOMETRY);
     }
 
     @Override
@@ -1234,13 +1637,13 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setCurtainColor(int color) {
         mCurtainColor = color;
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_DRAW);
     }
 
     @Override
     public void setAtmospheric(boolean hasAtmospheric) {
         this.hasAtmospheric = hasAtmospheric;
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_RENDERER);
     }
 
     @Override
@@ -1256,8 +1659,7 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setCurved(boolean isCurved) {
         this.isCurved = isCurved;
-        postLayout();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_RENDERER | UPDATE_LAYOUT);
     }
 
     @Override
@@ -1268,9 +1670,9 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setItemAlign(int align) {
         mItemAlign = align;
+        detachStylePaint();
         updateItemTextAlign();
-        computeDrawnCenter();
-        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+        requestUpdate(UPDATE_GEOMETRY);
     }
 
     @Override
@@ -1284,14 +1686,472 @@ public class WheelPicker extends Component implements IDebug, IWheelPicker,
     @Override
     public void setTypeface(Font tf) {
         if (null != mPaint) {
+            detachStylePaint();
             mPaint.setFont(tf);
         }
-        computeTextSize();
-        postLayout();
+        requestUpdate(UPDATE_TEXT_SIZE | UPDATE_GEOMETRY | UPDATE_LAYOUT);
+    }
+
+    @Override
+    public void setWheelStyle(WheelStyle style) {
+        if (null == style) {
+            throw new NullPointerException("WheelPicker's style can not be null!");
+        }
+        Paint paint = style.getPaint();
+        boolean isSizeChanged = mPaint.getTextSize() != paint.getTextSize()
+                || !Objects.equals(mPaint.getFont(), paint.getFont()) || isCurved != style.isCurved();
+        mStyle = style;
+        mPaint = paint;
+        mItemTextSize = style.getItemTextSize();
+        mItemTextColor = style.getItemTextColor();
+        mSelectedItemTextColor = style.getSelectedItemTextColor();
+        hasIndicator = style.hasIndicator();
+        mIndicatorSize = style.getIndicatorSize();
+        mIndicatorColor = style.getIndicatorColor();
+        hasCurtain = style.hasCurtain();
+        mCurtainColor = style.getCurtainColor();
+        isCurved = style.isCurved();
+        hasAtmospheric = style.hasAtmospheric();
+        mItemAlign = style.getItemAlign();
+
+        requestUpdate(isSizeChanged ? UPDATE_RENDERER | UPDATE_TEXT_SIZE | UPDATE_GEOMETRY | UPDATE_LAYOUT
+                : UPDATE_RENDERER | UPDATE_GEOMETRY);
+    }
+
+    @Override
+    public WheelStyle getWheelStyle() {
+        return mStyle;
+    }
+
+    @Override
+    public void beginUpdate() {
+        mUpdateDepth++;
+    }
+
+    @Override
+    public void commit() {
+        if (mUpdateDepth == 0) {
+            throw new IllegalStateException("commit() called without beginUpdate()!");
+        }
+        mUpdateDepth--;
+        if (mUpdateDepth == 0 && mPendingUpdates != 0) {
+            int updates = mPendingUpdates;
+            mPendingUpdates = 0;
+            applyUpdates(updates);
+        }
+    }
+
+    private void requestUpdate(int updates) {
+        checkOwnerThread();
+        if (mUpdateDepth > 0) {
+            mPendingUpdates |= updates;
+        } else {
+            applyUpdates(updates);
+        }
+    }
+
+    private void applyUpdates(int updates) {
+        if ((updates & UPDATE_RENDERER) != 0) {
+            selectRenderer();
+        }
+        if ((updates & (UPDATE_RENDERER | UPDATE_GEOMETRY)) != 0) {
+            // Data and selection changes leave the renderer as it is
+            isRendererDirty = true;
+        }
+        if ((updates & UPDATE_TEXT_SIZE) != 0) {
+            computeTextSize();
+        }
+        if ((updates & UPDATE_GEOMETRY) != 0) {
+            computeDrawnCenter();
+            computeIndicatorRect();
+            computeCurrentItemRect();
+        }
+        if ((updates & UPDATE_FLING_LIMITS) != 0) {
+            computeFlingLimitY();
+        }
+        if ((updates & UPDATE_LAYOUT) != 0) {
+            postLayout();
+        }
         new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
     }
 
+    @Override
+    public void postData(List data) {
+        if (null == data) {
+            throw new NullPointerException("WheelPicker's data can not be null!");
+        }
+        postHandoff(data, Handoff.NO_POSITION);
+    }
+
+    @Override
+    public void postSelectedItemPosition(int position) {
+        postHandoff(null, position);
+    }
+
+    private void postHandoff(List data, int position) {
+        Handoff previous;
+        Handoff next;
+        do {
+            previous = mHandoff.get();
+            next = null == previous ? new Handoff(data, position) : previous.merge(data, position);
+        } while (!mHandoff.compareAndSet(previous, next));
+        if (null == previous) {
+            // Only the first pending handoff schedules the task, later ones are merged into it
+            mEventHandler.postTask(this::takeHandoff);
+        }
+    }
+
+    private void takeHandoff() {
+        Handoff handoff = mHandoff.getAndSet(null);
+        if (null == handoff) {
+            return;
+        }
+        beginUpdate();
+        if (null != handoff.mData) {
+            // Subclasses that reject data reject it in postData, where the caller sees it
+            replaceData(handoff.mData);
+        }
+        if (handoff.mPosition != Handoff.NO_POSITION) {
+            helperSetSelectedItemPosition(handoff.mPosition, false);
+        }
+        commit();
+    }
+
+    /**
+     * Throw if the wheel is changed from a thread other than the main thread, checked in debug
+     * mode only. Other threads use {@link #postData(List)} and {@link #postSelectedItemPosition(int)}.
+     */
+    private void checkOwnerThread() {
+        if (isDebug && !EventRunner.getMainEventRunner().isCurrentRunnerThread()) {
+            throw new IllegalStateException("WheelPicker can only be changed on the main thread, but current is "
+                    + Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Give this picker its own copy of the paint shared through its style before the text size,
+     * font or alignment of the paint is changed.
+     */
+    private void detachStylePaint() {
+        if (null != mStyle && mPaint == mStyle.getPaint()) {
+            mPaint = new Paint(mPaint);
+        }
+    }
+
+    private void onDataRangeInserted(int start, int count) {
+        int oldSize = mData.size() - count;
+        int center = oldSize == 0 ? 0 : getCenterItemPosition(oldSize);
+        keepCenterItem(center >= start && oldSize > 0 ? center + count : center);
+
+        boolean isWidthChanged;
+        if (null != mItemWidths) {
+            int[] widths = new int[mData.size()];
+            System.arraycopy(mItemWidths, 0, widths, 0, start);
+            System.arraycopy(mItemWidths, start, widths, start + count, oldSize - start);
+            int maxWidth = mTextMaxWidth;
+            for (int i = start; i < start + count; i++) {
+                widths[i] = measureItem(i);
+                maxWidth = Math.max(maxWidth, widths[i]);
+            }
+            mItemWidths = widths;
+            isWidthChanged = maxWidth != mTextMaxWidth;
+            mTextMaxWidth = maxWidth;
+        } else {
+            isWidthChanged = recomputeTextSize();
+        }
+        onDataContentChanged(isWidthChanged);
+    }
+
+    private void onDataRangeRemoved(int start, int count) {
+        int size = mData.size();
+        int center = getCenterItemPosition(size + count);
+        if (center >= start + count) {
+            center -= count;
+        } else if (center >= start) {
+            center = start;
+        }
+        keepCenterItem(Math.max(0, Math.min(center, size - 1)));
+
+        boolean isWidthChanged;
+        if (null != mItemWidths) {
+            boolean isWidestRemoved = false;
+            for (int i = start; i < start + count; i++) {
+                isWidestRemoved |= mItemWidths[i] == mTextMaxWidth;
+            }
+            int[] widths = new int[size];
+            System.arraycopy(mItemWidths, 0, widths, 0, start);
+            System.arraycopy(mItemWidths, start + count, widths, start, size - start);
+            mItemWidths = widths;
+            isWidthChanged = isWidestRemoved && updateMaxItemWidth();
+        } else {
+            isWidthChanged = recomputeTextSize();
+        }
+        onDataContentChanged(isWidthChanged);
+    }
+
+    private void onDataRangeChanged(int start, int count) {
+        boolean isWidthChanged;
+        if (null != mItemWidths) {
+            boolean isWidestChanged = false;
+            int maxWidth = mTextMaxWidth;
+            for (int i = start; i < start + count; i++) {
+                isWidestChanged |= mItemWidths[i] == mTextMaxWidth;
+                mItemWidths[i] = measureItem(i);
+                maxWidth = Math.max(maxWidth, mItemWidths[i]);
+            }
+            if (maxWidth != mTextMaxWidth) {
+                mTextMaxWidth = maxWidth;
+                isWidthChanged = true;
+            } else {
+                isWidthChanged = isWidestChanged && updateMaxItemWidth();
+            }
+        } else {
+            isWidthChanged = recomputeTextSize();
+        }
+        onDataContentChanged(isWidthChanged);
+    }
+
+    private void onDataContentChanged(boolean isWidthChanged) {
+        checkOwnerThread();
+        mDataVersion++;
+        mSearchIndex = null;
+        mPositions = null;
+        computeFlingLimitY();
+        // Only a new widest item changes the size of the wheel
+        if (isWidthChanged) {
+            postLayout();
+        }
+        new EventHandler(EventRunner.getMainEventRunner()).postTask(this::invalidate);
+    }
+
+    /**
+     * Get the position of the item at the center of the wheel, taking an unfinished drag into account.
+     */
+    private int getCenterItemPosition(int size) {
+        return mScrollState.getCenterItemPosition(size);
+    }
+
+    /**
+     * Make the item now at the given position the one at the center, without moving the content.
+     */
+    private void keepCenterItem(int position) {
+        if (!mScrollState.keepCenterItem(position)) {
+            // The scroller owns the offset while it runs, settle on the item instead
+            helperSetSelectedItemPosition(position, false);
+        }
+    }
+
+    private int measureItem(int position) {
+        return (int) mPaint.measureText(getItemText(position));
+    }
+
+    private boolean updateMaxItemWidth() {
+        int maxWidth = 0;
+        for (int width : mItemWidths) {
+            maxWidth = Math.max(maxWidth, width);
+        }
+        boolean isChanged = maxWidth != mTextMaxWidth;
+        mTextMaxWidth = maxWidth;
+        return isChanged;
+    }
+
+    private boolean recomputeTextSize() {
+        int maxWidth = mTextMaxWidth;
+        computeTextSize();
+        return maxWidth != mTextMaxWidth;
+    }
+
+    @Override
+    public int getPositionOf(Object value) {
+        if (mData instanceof IPositionResolver) {
+            return ((IPositionResolver) mData).resolvePosition(value);
+        }
+        if (null == mPositions) {
+            Map<Object, Integer> positions = new HashMap<>(mData.size() * 4 / 3 + 1);
+            for (int i = mData.size() - 1; i >= 0; i--) {
+                // Walk backwards so duplicated values keep their first position, like indexOf
+                positions.put(mData.get(i), i);
+            }
+            mPositions = positions;
+        }
+        Integer position = mPositions.get(value);
+        return null == position ? -1 : position;
+    }
+
+    @Override
+    public void setSelectedItem(Object value) {
+        int position = getPositionOf(value);
+        if (position >= 0) {
+            setSelectedItemPosition(position);
+        }
+    }
 
+    @Override
+    public void scrollToMatch(String query) {
+        if (null == query) {
+            throw new NullPointerException("Search query can not be null!");
+        }
+        if (null == mSearchIndex) {
+            mPendingSearchQuery = query;
+            buildSearchIndex();
+            return;
+        }
+        int position = mSearchIndex.findFirst(query);
+        if (position >= 0) {
+            setSelectedItemPosition(position);
+        }
+    }
+
+    @Override
+    public WheelSearchIndex getSearchIndex() {
+        if (null == mSearchIndex) {
+            buildSearchIndex();
+        }
+        return mSearchIndex;
+    }
+
+    @Override
+    public void setSearchPinyinInitials(boolean hasPinyinInitials) {
+        if (hasSearchPinyinInitials != hasPinyinInitials) {
+            hasSearchPinyinInitials = hasPinyinInitials;
+            mSearchIndex = null;
+        }
+    }
+
+    @Override
+    public boolean hasSearchPinyinInitials() {
+        return hasSearchPinyinInitials;
+    }
+
+    private void buildSearchIndex() {
+        if (isSearchIndexBuilding) {
+            return;
+        }
+        isSearchIndexBuilding = true;
+        // Labels are read here, the background thread never touches the data of the wheel
+        final String[] labels = new String[mData.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = getItemText(i);
+        }
+        final int dataVersion = mDataVersion;
+        final boolean hasPinyinInitials = hasSearchPinyinInitials;
+        getSearchIndexHandler().postTask(() -> {
+            EventHandler mainHandler = new EventHandler(EventRunner.getMainEventRunner());
+            try {
+                WheelSearchIndex index = WheelSearchIndex.build(Arrays.asList(labels), hasPinyinInitials);
+                mainHandler.postTask(() -> onSearchIndexBuilt(dataVersion, hasPinyinInitials, index));
+            } catch (RuntimeException e) {
+                mainHandler.postTask(() -> onSearchIndexFailed(e));
+            }
+        });
+    }
+
+    private void onSearchIndexFailed(RuntimeException e) {
+        isSearchIndexBuilding = false;
+        mPendingSearchQuery = null;
+        LogUtil.error(TAG, "buildSearchIndex : " + e.getMessage());
+    }
+
+    private void onSearchIndexBuilt(int dataVersion, boolean hasPinyinInitials, WheelSearchIndex index) {
+        isSearchIndexBuilding = false;
+        if (dataVersion != mDataVersion || hasPinyinInitials != hasSearchPinyinInitials) {
+            // Data or options changed while building, start over if someone is still waiting
+            if (null != mPendingSearchQuery) {
+                buildSearchIndex();
+            }
+            return;
+        }
+        mSearchIndex = index;
+        if (null != mPendingSearchQuery) {
+            String query = mPendingSearchQuery;
+            mPendingSearchQuery = null;
+            scrollToMatch(query);
+        }
+    }
+
+    /**
+     * Prepare data on a background thread, then show it.
+     * Labels are formatted and measured, the value to position map and the search index are built
+     * in the background. Once ready, the prepared data replaces the data of the wheel on the main
+     * thread in one step, as {@link #setData(List)} would, and the future completes there.
+     * If data is set or prepared again before that, the future is cancelled right then. If the
+     * data can not be shown, the future completes exceptionally.
+     *
+     * @param source items, must not change until the future completes
+     * @return future completed with the data shown by the wheel
+     */
+    public CompletableFuture<PreparedWheelData> prepareDataAsync(List source) {
+        if (null == source) {
+            throw new NullPointerException("WheelPicker's data can not be null!");
+        }
+        checkOwnerThread();
+        supersedePreparedData();
+        final CompletableFuture<PreparedWheelData> future = new CompletableFuture<>();
+        final int generation = mPrepareGeneration;
+        mPreparingFuture = future;
+        // The background thread measures with its own copy, the wheel keeps drawing with its paint
+        final Paint paint = new Paint(mPaint);
+        final boolean hasPinyinInitials = hasSearchPinyinInitials;
+        getPrepareHandler().postTask(() -> {
+            try {
+                PreparedWheelData prepared = new PreparedWheelData(source, paint, hasPinyinInitials);
+                mEventHandler.postTask(() -> onDataPrepared(generation, prepared, future));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private void onDataPrepared(int generation, PreparedWheelData prepared,
+                                CompletableFuture<PreparedWheelData> future) {
+        if (generation != mPrepareGeneration) {
+            // Already cancelled when it was superseded
+            return;
+        }
+        mPreparingFuture = null;
+        try {
+            replaceData(prepared);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        mSearchIndex = prepared.getSearchIndex(hasSearchPinyinInitials);
+        future.complete(prepared);
+    }
+
+    /**
+     * Drop the data being prepared, other data is set or prepared.
+     */
+    private void supersedePreparedData() {
+        mPrepareGeneration++;
+        if (null != mPreparingFuture) {
+            mPreparingFuture.cancel(false);
+            mPreparingFuture = null;
+        }
+    }
+
+    private String getItemText(int position) {
+        List data = mData;
+        if (data instanceof WheelDataSource) {
+            return ((WheelDataSource) data).getLabel(position);
+        }
+        return String.valueOf(data.get(position));
+    }
+
+    private static synchronized EventHandler getPrepareHandler() {
+        if (null == sPrepareHandler) {
+            sPrepareHandler = new EventHandler(EventRunner.create());
+        }
+        return sPrepareHandler;
+    }
+
+    private static synchronized EventHandler getSearchIndexHandler() {
+        if (null == sSearchIndexHandler) {
+            sSearchIndexHandler = new EventHandler(EventRunner.create());
+        }
+        return sSearchIndexHandler;
+    }
 
     /**
      * The interface to monitor when the wheel selector Item is selected.
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Paint;
+import ohos.agp.utils.Rect;
+
+/**
+ * Configuration of a wheel given to {@link WheelRenderer#configure(WheelRenderConfig)}.
+ * Filled by the wheel and reused, renderers copy what they keep.
+ */
+public final class WheelRenderConfig {
+    Paint mPaint;
+
+    Rect mRectDrawn;
+
+    Rect mRectCurrentItem;
+
+    int mDrawnCenterX;
+    int mDrawnCenterY;
+
+    int mWheelCenterX;
+    int mWheelCenterY;
+
+    int mItemHeight;
+    int mHalfWheelHeight;
+    int mHalfDrawnItemCount;
+
+    int mItemTextColor;
+    int mSelectedItemTextColor;
+
+    int mItemAlign;
+
+    boolean hasAtmospheric;
+
+    WheelRenderConfig() {
+    }
+
+    /**
+     * Get the paint of the items, its text size, font and alignment are set.
+     *
+     * @return paint
+     */
+    public Paint getPaint() {
+        return mPaint;
+    }
+
+    /**
+     * Get the region the items are drawn in.
+     *
+     * @return drawn rect
+     */
+    public Rect getDrawnRect() {
+        return mRectDrawn;
+    }
+
+    /**
+     * Get the region of the selected item.
+     *
+     * @return current item rect
+     */
+    public Rect getCurrentItemRect() {
+        return mRectCurrentItem;
+    }
+
+    /**
+     * Get the x coordinate of the text, following the item alignment.
+     *
+     * @return drawn center x
+     */
+    public int getDrawnCenterX() {
+        return mDrawnCenterX;
+    }
+
+    /**
+     * Get the text baseline of the item at the center.
+     *
+     * @return drawn center y
+     */
+    public int getDrawnCenterY() {
+        return mDrawnCenterY;
+    }
+
+    public int getWheelCenterX() {
+        return mWheelCenterX;
+    }
+
+    public int getWheelCenterY() {
+        return mWheelCenterY;
+    }
+
+    public int getItemHeight() {
+        return mItemHeight;
+    }
+
+    public int getHalfWheelHeight() {
+        return mHalfWheelHeight;
+    }
+
+    /**
+     * Get the number of items drawn on each side of the center item.
+     *
+     * @return half drawn item count
+     */
+    public int getHalfDrawnItemCount() {
+        return mHalfDrawnItemCount;
+    }
+
+    public int getItemTextColor() {
+        return mItemTextColor;
+    }
+
+    /**
+     * Get the text color of the selected item.
+     *
+     * @return color, -1 if the selected item has the color of the others
+     */
+    public int getSelectedItemTextColor() {
+        return mSelectedItemTextColor;
+    }
+
+    /**
+     * Get the alignment of the items.
+     *
+     * @return {@link WheelPicker#ALIGN_CENTER}, {@link WheelPicker#ALIGN_LEFT} or
+     *     {@link WheelPicker#ALIGN_RIGHT}
+     */
+    public int getItemAlign() {
+        return mItemAlign;
+    }
+
+    public boolean hasAtmospheric() {
+        return hasAtmospheric;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Canvas;
+
+/**
+ * Draws the items of a wheel. The renderer is chosen and configured when the configuration of
+ * the wheel changes, so that drawing an item only does what its own look needs.
+ * A renderer draws a single wheel.
+ *
+ * @see WheelPicker#setRenderer(WheelRenderer)
+ * @see FlatWheelRenderer
+ * @see CurvedWheelRenderer
+ * @see CylinderWheelRenderer
+ */
+public interface WheelRenderer {
+    /**
+     * Get the content height of the wheel.
+     *
+     * @param flatHeight height of the visible items laid out flat
+     * @return content height
+     */
+    int getContentHeight(int flatHeight);
+
+    /**
+     * Prepare drawing, called before the first draw and after the configuration or the size of
+     * the wheel changed.
+     *
+     * @param config configuration of the wheel, only valid during the call
+     */
+    void configure(WheelRenderConfig config);
+
+    /**
+     * Draw an item.
+     *
+     * @param canvas canvas
+     * @param text label of the item
+     * @param offsetY distance of the item from the center of the flat wheel, negative above the center
+     * @param fade alpha factor, below 1 while the item fades in
+     */
+    void drawItem(Canvas canvas, String text, int offsetY, float fade);
+}
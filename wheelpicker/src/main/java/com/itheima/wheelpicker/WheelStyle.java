@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker;
+
+import ohos.agp.render.Paint;
+import ohos.agp.text.Font;
+import ohos.agp.utils.TextAlignment;
+
+/**
+ * Immutable appearance of a wheel: text size, colors, indicator, curtain, curved, atmospheric,
+ * font and alignment. One style can be applied to any number of pickers with
+ * {@link IWheelPicker#setWheelStyle(WheelStyle)}, for example to switch every picker of a screen
+ * to a dark theme with one call per picker.
+ *
+ * <p>Pickers showing the same style share one text paint until one of them changes its text size,
+ * font or alignment through a setter, then that picker takes its own copy. Styles must be applied
+ * on the main thread.
+ */
+public final class WheelStyle {
+    private final int mItemTextSize;
+    private final int mItemTextColor;
+    private final int mSelectedItemTextColor;
+    private final boolean hasIndicator;
+    private final int mIndicatorSize;
+    private final int mIndicatorColor;
+    private final boolean hasCurtain;
+    private final int mCurtainColor;
+    private final boolean isCurved;
+    private final boolean hasAtmospheric;
+    private final Font mTypeface;
+    private final int mItemAlign;
+
+    /**
+     * Text paint shared by the pickers showing this style, created on first use.
+     */
+    private Paint mPaint;
+
+    private WheelStyle(Builder builder) {
+        mItemTextSize = builder.mItemTextSize;
+        mItemTextColor = builder.mItemTextColor;
+        mSelectedItemTextColor = builder.mSelectedItemTextColor;
+        hasIndicator = builder.hasIndicator;
+        mIndicatorSize = builder.mIndicatorSize;
+        mIndicatorColor = builder.mIndicatorColor;
+        hasCurtain = builder.hasCurtain;
+        mCurtainColor = builder.mCurtainColor;
+        isCurved = builder.isCurved;
+        hasAtmospheric = builder.hasAtmospheric;
+        mTypeface = builder.mTypeface;
+        mItemAlign = builder.mItemAlign;
+    }
+
+    /**
+     * Capture the current appearance of a picker, for example one inflated from a layout, to
+     * derive other styles from it with {@link #buildUpon()}.
+     *
+     * @param picker picker
+     * @return style of the picker
+     */
+    public static WheelStyle from(WheelPicker picker) {
+        return new Builder(picker.getItemTextSize())
+                .setItemTextColor(picker.getItemTextColor())
+                .setSelectedItemTextColor(picker.getSelectedItemTextColor())
+                .setIndicator(picker.hasIndicator(), picker.getIndicatorSize(), picker.getIndicatorColor())
+                .setCurtain(picker.hasCurtain(), picker.getCurtainColor())
+                .setCurved(picker.isCurved())
+                .setAtmospheric(picker.hasAtmospheric())
+                .setTypeface(picker.getTypeface())
+                .setItemAlign(picker.getItemAlign())
+                .build();
+    }
+
+    /**
+     * Apply this style to several pickers.
+     *
+     * @param pickers pickers
+     */
+    public void applyTo(IWheelPicker... pickers) {
+        for (IWheelPicker picker : pickers) {
+            picker.setWheelStyle(this);
+        }
+    }
+
+    /**
+     * Get a builder holding the values of this style.
+     *
+     * @return builder
+     */
+    public Builder buildUpon() {
+        return new Builder(mItemTextSize)
+                .setItemTextColor(mItemTextColor)
+                .setSelectedItemTextColor(mSelectedItemTextColor)
+                .setIndicator(hasIndicator, mIndicatorSize, mIndicatorColor)
+                .setCurtain(hasCurtain, mCurtainColor)
+                .setCurved(isCurved)
+                .setAtmospheric(hasAtmospheric)
+                .setTypeface(mTypeface)
+                .setItemAlign(mItemAlign);
+    }
+
+    public int getItemTextSize() {
+        return mItemTextSize;
+    }
+
+    public int getItemTextColor() {
+        return mItemTextColor;
+    }
+
+    public int getSelectedItemTextColor() {
+        return mSelectedItemTextColor;
+    }
+
+    public boolean hasIndicator() {
+        return hasIndicator;
+    }
+
+    public int getIndicatorSize() {
+        return mIndicatorSize;
+    }
+
+    public int getIndicatorColor() {
+        return mIndicatorColor;
+    }
+
+    public boolean hasCurtain() {
+        return hasCurtain;
+    }
+
+    public int getCurtainColor() {
+        return mCurtainColor;
+    }
+
+    public boolean isCurved() {
+        return isCurved;
+    }
+
+    public boolean hasAtmospheric() {
+        return hasAtmospheric;
+    }
+
+    public Font getTypeface() {
+        return mTypeface;
+    }
+
+    public int getItemAlign() {
+        return mItemAlign;
+    }
+
+    /**
+     * Get the text paint shared by the pickers showing this style.
+     * Drawing sets the color, alpha and paint style before every use, only the text size, font and
+     * alignment set here are relied on.
+     *
+     * @return shared paint
+     */
+    Paint getPaint() {
+        if (null == mPaint) {
+            Paint paint = new Paint();
+            paint.setAntiAlias(true);
+            paint.setDither(true);
+            paint.setTextSize(mItemTextSize);
+            if (null != mTypeface) {
+                paint.setFont(mTypeface);
+            }
+            switch (mItemAlign) {
+                case WheelPicker.ALIGN_LEFT:
+                    paint.setTextAlign(TextAlignment.LEFT);
+                    break;
+                case WheelPicker.ALIGN_RIGHT:
+                    paint.setTextAlign(TextAlignment.RIGHT);
+                    break;
+                default:
+                    paint.setTextAlign(TextAlignment.CENTER);
+                    break;
+            }
+            mPaint = paint;
+        }
+        return mPaint;
+    }
+
+    /**
+     * Builds {@link WheelStyle}, unset values are the defaults of the wheel attributes.
+     */
+    public static final class Builder {
+        private final int mItemTextSize;
+        private int mItemTextColor = 0xFF888888;
+        private int mSelectedItemTextColor = -1;
+        private boolean hasIndicator;
+        private int mIndicatorSize;
+        private int mIndicatorColor = 0xFFEE3333;
+        private boolean hasCurtain;
+        private int mCurtainColor = 0x88FFFFFF;
+        private boolean isCurved;
+        private boolean hasAtmospheric;
+        private Font mTypeface;
+        private int mItemAlign = WheelPicker.ALIGN_CENTER;
+
+        /**
+         * Create a builder.
+         *
+         * @param itemTextSize text size in pixels
+         */
+        public Builder(int itemTextSize) {
+            if (itemTextSize <= 0) {
+                throw new IllegalArgumentException("Item text size must be positive, but current is "
+                        + itemTextSize);
+            }
+            mItemTextSize = itemTextSize;
+        }
+
+        public Builder setItemTextColor(int color) {
+            mItemTextColor = color;
+            return this;
+        }
+
+        /**
+         * Set the color of the selected item, -1 to draw it with the item text color.
+         *
+         * @param color color
+         * @return this builder
+         */
+        public Builder setSelectedItemTextColor(int color) {
+            mSelectedItemTextColor = color;
+            return this;
+        }
+
+        /**
+         * Set the indicator lines around the selected item.
+         *
+         * @param hasIndicator whether the indicator is drawn
+         * @param size line size in pixels
+         * @param color line color
+         * @return this builder
+         */
+        public Builder setIndicator(boolean hasIndicator, int size, int color) {
+            this.hasIndicator = hasIndicator;
+            mIndicatorSize = size;
+            mIndicatorColor = color;
+            return this;
+        }
+
+        /**
+         * Set the curtain drawn over the selected item.
+         *
+         * @param hasCurtain whether the curtain is drawn
+         * @param color curtain color
+         * @return this builder
+         */
+        public Builder setCurtain(boolean hasCurtain, int color) {
+            this.hasCurtain = hasCurtain;
+            mCurtainColor = color;
+            return this;
+        }
+
+        public Builder setCurved(boolean isCurved) {
+            this.isCurved = isCurved;
+            return this;
+        }
+
+        public Builder setAtmospheric(boolean hasAtmospheric) {
+            this.hasAtmospheric = hasAtmospheric;
+            return this;
+        }
+
+        /**
+         * Set the font, null for the default font.
+         *
+         * @param typeface font
+         * @return this builder
+         */
+        public Builder setTypeface(Font typeface) {
+            mTypeface = typeface;
+            return this;
+        }
+
+        /**
+         * Set the alignment of the items.
+         *
+         * @param align {@link WheelPicker#ALIGN_CENTER}, {@link WheelPicker#ALIGN_LEFT} or
+         *     {@link WheelPicker#ALIGN_RIGHT}
+         * @return this builder
+         */
+        public Builder setItemAlign(int align) {
+            mItemAlign = align;
+            return this;
+        }
+
+        public WheelStyle build() {
+            return new WheelStyle(this);
+        }
+    }
+}
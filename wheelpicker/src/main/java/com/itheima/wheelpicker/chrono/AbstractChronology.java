@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.chrono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base calendar system that builds each year's {@link MonthTable} once and caches it.
+ */
+public abstract class AbstractChronology implements WheelChronology {
+    private final Map<Integer, MonthTable> mMonthTables = new HashMap<>();
+
+    /**
+     * Build the month table of a year, called at most once per year.
+     *
+     * @param year Year, already checked against the supported range
+     * @return Month table of the year
+     */
+    protected abstract MonthTable createMonthTable(int year);
+
+    @Override
+    public MonthTable getMonthTable(int year) {
+        checkYear(year);
+        synchronized (mMonthTables) {
+            MonthTable table = mMonthTables.get(year);
+            if (null == table) {
+                table = createMonthTable(year);
+                mMonthTables.put(year, table);
+            }
+            return table;
+        }
+    }
+
+    @Override
+    public int getMonthsInYear(int year) {
+        return getMonthTable(year).getMonthCount();
+    }
+
+    @Override
+    public int getDaysInMonth(int year, int month) {
+        MonthTable table = getMonthTable(year);
+        if (month < 1 || month > table.getMonthCount()) {
+            throw new IllegalArgumentException("Month must in [1, " + table.getMonthCount()
+                    + "], but current is " + month);
+        }
+        return table.getDays(month);
+    }
+
+    /**
+     * Check the year is inside the supported range.
+     *
+     * @param year Year
+     */
+    protected void checkYear(int year) {
+        if (year < getMinYear() || year > getMaxYear()) {
+            throw new IllegalArgumentException("Year must in [" + getMinYear() + ", "
+                    + getMaxYear() + "], but current is " + year);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.chrono;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Chinese lunisolar calendar system, supports years 1900 to 2100.
+ * Years with a leap month have 13 months, the leap month follows the month it repeats.
+ */
+public final class ChineseLunarChronology extends AbstractChronology {
+    private static final ChineseLunarChronology INSTANCE = new ChineseLunarChronology();
+
+    private static final int MIN_YEAR = 1900;
+
+    private static final int MAX_YEAR = 2100;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    /**
+     * Lunar year data from 1900 to 2100.
+     * Bits 0-3: leap month, 0 if none. Bits 4-15: month 12 to 1 has 30 days if set, otherwise 29.
+     * Bit 16: the leap month has 30 days if set, otherwise 29.
+     */
+    private static final int[] LUNAR_INFO = {
+        0x04bd8, 0x04ae0, 0x0a570, 0x054d5, 0x0d260, 0x0d950, 0x16554, 0x056a0, 0x09ad0, 0x055d2,
+        0x04ae0, 0x0a5b6, 0x0a4d0, 0x0d250, 0x1d255, 0x0b540, 0x0d6a0, 0x0ada2, 0x095b0, 0x14977,
+        0x04970, 0x0a4b0, 0x0b4b5, 0x06a50, 0x06d40, 0x1ab54, 0x02b60, 0x09570, 0x052f2, 0x04970,
+        0x06566, 0x0d4a0, 0x0ea50, 0x16a95, 0x05ad0, 0x02b60, 0x186e3, 0x092e0, 0x1c8d7, 0x0c950,
+        0x0d4a0, 0x1d8a6, 0x0b550, 0x056a0, 0x1a5b4, 0x025d0, 0x092d0, 0x0d2b2, 0x0a950, 0x0b557,
+        0x06ca0, 0x0b550, 0x15355, 0x04da0, 0x0a5b0, 0x14573, 0x052b0, 0x0a9a8, 0x0e950, 0x06aa0,
+        0x0aea6, 0x0ab50, 0x04b60, 0x0aae4, 0x0a570, 0x05260, 0x0f263, 0x0d950, 0x05b57, 0x056a0,
+        0x096d0, 0x04dd5, 0x04ad0, 0x0a4d0, 0x0d4d4, 0x0d250, 0x0d558, 0x0b540, 0x0b6a0, 0x195a6,
+        0x095b0, 0x049b0, 0x0a974, 0x0a4b0, 0x0b27a, 0x06a50, 0x06d40, 0x0af46, 0x0ab60, 0x09570,
+        0x04af5, 0x04970, 0x064b0, 0x074a3, 0x0ea50, 0x06b58, 0x05ac0, 0x0ab60, 0x096d5, 0x092e0,
+        0x0c960, 0x0d954, 0x0d4a0, 0x0da50, 0x07552, 0x056a0, 0x0abb7, 0x025d0, 0x092d0, 0x0cab5,
+        0x0a950, 0x0b4a0, 0x0baa4, 0x0ad50, 0x055d9, 0x04ba0, 0x0a5b0, 0x15176, 0x052b0, 0x0a930,
+        0x07954, 0x06aa0, 0x0ad50, 0x05b52, 0x04b60, 0x0a6e6, 0x0a4e0, 0x0d260, 0x0ea65, 0x0d530,
+        0x05aa0, 0x076a3, 0x096d0, 0x04afb, 0x04ad0, 0x0a4d0, 0x1d0b6, 0x0d250, 0x0d520, 0x0dd45,
+        0x0b5a0, 0x056d0, 0x055b2, 0x049b0, 0x0a577, 0x0a4b0, 0x0aa50, 0x1b255, 0x06d20, 0x0ada0,
+        0x14b63, 0x09370, 0x049f8, 0x04970, 0x064b0, 0x168a6, 0x0ea50, 0x06b20, 0x1a6c4, 0x0aae0,
+        0x092e0, 0x0d2e3, 0x0c960, 0x0d557, 0x0d4a0, 0x0da50, 0x05d55, 0x056a0, 0x0a6d0, 0x055d4,
+        0x052d0, 0x0a9b8, 0x0a950, 0x0b4a0, 0x0b6a6, 0x0ad50, 0x055a0, 0x0aba4, 0x0a5b0, 0x052b0,
+        0x0b273, 0x06930, 0x07337, 0x06aa0, 0x0ad50, 0x14b55, 0x04b60, 0x0a570, 0x054e4, 0x0d160,
+        0x0e968, 0x0d520, 0x0daa0, 0x16aa6, 0x056d0, 0x04ae0, 0x0a9d4, 0x0a2d0, 0x0d150, 0x0f252,
+        0x0d520
+    };
+
+    private static final String[] MONTH_NAMES = {"正月", "二月", "三月", "四月", "五月", "六月",
+        "七月", "八月", "九月", "十月", "冬月", "腊月"};
+
+    private static final String LEAP_PREFIX = "闰";
+
+    /**
+     * Days from the first lunar new year (1900-01-31) to the new year of each supported year,
+     * built on first use.
+     */
+    private int[] mYearOffsets;
+
+    private ChineseLunarChronology() {
+    }
+
+    /**
+     * Get the shared instance.
+     *
+     * @return Chinese lunisolar calendar system
+     */
+    public static ChineseLunarChronology getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int getMinYear() {
+        return MIN_YEAR;
+    }
+
+    @Override
+    public int getMaxYear() {
+        return MAX_YEAR;
+    }
+
+    @Override
+    protected MonthTable createMonthTable(int year) {
+        int info = LUNAR_INFO[year - MIN_YEAR];
+        int leap = info & 0xf;
+        int count = leap == 0 ? 12 : 13;
+        int[] days = new int[count];
+        String[] labels = new String[count];
+        int ordinal = 0;
+        for (int month = 1; month <= 12; month++) {
+            days[ordinal] = (info & (0x10000 >> month)) != 0 ? 30 : 29;
+            labels[ordinal] = MONTH_NAMES[month - 1];
+            ordinal++;
+            if (month == leap) {
+                days[ordinal] = (info & 0x10000) != 0 ? 30 : 29;
+                labels[ordinal] = LEAP_PREFIX + MONTH_NAMES[month - 1];
+                ordinal++;
+            }
+        }
+        return new MonthTable(days, labels, leap == 0 ? 0 : leap + 1);
+    }
+
+    @Override
+    public Date toDate(int year, int month, int day) {
+        checkYear(year);
+        int offset = getYearOffsets()[year - MIN_YEAR] + getMonthTable(year).getDaysBefore(month) + day - 1;
+        Calendar calendar = newYearOf1900();
+        calendar.add(Calendar.DAY_OF_MONTH, offset);
+        return calendar.getTime();
+    }
+
+    @Override
+    public int[] fromDate(Date date) {
+        Calendar day = Calendar.getInstance();
+        day.setTime(date);
+        day.set(Calendar.HOUR_OF_DAY, 0);
+        day.set(Calendar.MINUTE, 0);
+        day.set(Calendar.SECOND, 0);
+        day.set(Calendar.MILLISECOND, 0);
+        Calendar base = newYearOf1900();
+        long millis = (day.getTimeInMillis() + day.get(Calendar.ZONE_OFFSET) + day.get(Calendar.DST_OFFSET))
+                - (base.getTimeInMillis() + base.get(Calendar.ZONE_OFFSET) + base.get(Calendar.DST_OFFSET));
+        int offset = (int) Math.floorDiv(millis, MILLIS_PER_DAY);
+
+        int[] offsets = getYearOffsets();
+        if (offset < 0 || offset >= offsets[offsets.length - 1] + getMonthTable(MAX_YEAR).getDaysInYear()) {
+            throw new IllegalArgumentException("Date is out of the supported lunar years ["
+                    + MIN_YEAR + ", " + MAX_YEAR + "]");
+        }
+        int yearIndex = offsets.length - 1;
+        while (offsets[yearIndex] > offset) {
+            yearIndex--;
+        }
+        int year = MIN_YEAR + yearIndex;
+        int remain = offset - offsets[yearIndex];
+        MonthTable table = getMonthTable(year);
+        int month = 1;
+        while (remain >= table.getDays(month)) {
+            remain -= table.getDays(month);
+            month++;
+        }
+        return new int[] {year, month, remain + 1};
+    }
+
+    private synchronized int[] getYearOffsets() {
+        if (null == mYearOffsets) {
+            int[] offsets = new int[MAX_YEAR - MIN_YEAR + 1];
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] = offsets[i - 1] + getMonthTable(MIN_YEAR + i - 1).getDaysInYear();
+            }
+            mYearOffsets = offsets;
+        }
+        return mYearOffsets;
+    }
+
+    private static Calendar newYearOf1900() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(1900, Calendar.JANUARY, 31);
+        return calendar;
+    }
+}
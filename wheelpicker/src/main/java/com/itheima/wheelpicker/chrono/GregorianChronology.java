@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.chrono;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Gregorian calendar system, the default of the date wheels.
+ */
+public final class GregorianChronology extends AbstractChronology {
+    private static final GregorianChronology INSTANCE = new GregorianChronology();
+
+    private static final int[] MONTH_DAYS = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final String[] MONTH_LABELS = {"1", "2", "3", "4", "5", "6", "7", "8", "9",
+        "10", "11", "12"};
+
+    private GregorianChronology() {
+    }
+
+    /**
+     * Get the shared instance.
+     *
+     * @return Gregorian calendar system
+     */
+    public static GregorianChronology getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int getMinYear() {
+        return 1;
+    }
+
+    @Override
+    public int getMaxYear() {
+        return 9999;
+    }
+
+    @Override
+    protected MonthTable createMonthTable(int year) {
+        int[] days = MONTH_DAYS.clone();
+        if ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0) {
+            days[1] = 29;
+        }
+        return new MonthTable(days, MONTH_LABELS, 0);
+    }
+
+    @Override
+    public Date toDate(int year, int month, int day) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month - 1, day);
+        return calendar.getTime();
+    }
+
+    @Override
+    public int[] fromDate(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return new int[] {calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+            calendar.get(Calendar.DAY_OF_MONTH)};
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.chrono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable month structure of one year.
+ */
+public final class MonthTable {
+    private final int[] mDays;
+
+    private final List<String> mLabels;
+
+    private final int mLeapMonth;
+
+    private final int mDaysInYear;
+
+    /**
+     * MonthTable.
+     *
+     * @param days      days of each month, in ordinal order
+     * @param labels    label of each month, in ordinal order
+     * @param leapMonth ordinal of the leap month, 0 if the year has none
+     */
+    public MonthTable(int[] days, String[] labels, int leapMonth) {
+        if (days.length != labels.length) {
+            throw new IllegalArgumentException("Month days and labels must have the same length!");
+        }
+        mDays = days.clone();
+        mLabels = Collections.unmodifiableList(Arrays.asList(labels.clone()));
+        mLeapMonth = leapMonth;
+        int total = 0;
+        for (int day : mDays) {
+            total += day;
+        }
+        mDaysInYear = total;
+    }
+
+    /**
+     * Get the number of months.
+     *
+     * @return Months of the year
+     */
+    public int getMonthCount() {
+        return mDays.length;
+    }
+
+    /**
+     * Get the number of days in a month.
+     *
+     * @param month Month ordinal, starting from 1
+     * @return Days of the month
+     */
+    public int getDays(int month) {
+        return mDays[month - 1];
+    }
+
+    /**
+     * Get the number of days before a month.
+     *
+     * @param month Month ordinal, starting from 1
+     * @return Days of the year before the first day of the month
+     */
+    public int getDaysBefore(int month) {
+        int total = 0;
+        for (int i = 0; i < month - 1; i++) {
+            total += mDays[i];
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of days in the year.
+     *
+     * @return Days of the year
+     */
+    public int getDaysInYear() {
+        return mDaysInYear;
+    }
+
+    /**
+     * Get the month labels, the list is shared and can not be modified.
+     *
+     * @return Month labels in ordinal order
+     */
+    public List<String> getLabels() {
+        return mLabels;
+    }
+
+    /**
+     * Get the ordinal of the leap month.
+     *
+     * @return Ordinal of the leap month, 0 if the year has none
+     */
+    public int getLeapMonth() {
+        return mLeapMonth;
+    }
+
+    /**
+     * Check whether a month is the leap month of the year.
+     *
+     * @param month Month ordinal, starting from 1
+     * @return true if the month repeats the month before it
+     */
+    public boolean isLeapMonth(int month) {
+        return mLeapMonth != 0 && month == mLeapMonth;
+    }
+
+    /**
+     * Get the month number of an ordinal, a leap month has the number of the month it repeats.
+     *
+     * @param month Month ordinal, starting from 1
+     * @return Month number, 1 to 12
+     */
+    public int getMonthNumber(int month) {
+        return mLeapMonth != 0 && month >= mLeapMonth ? month - 1 : month;
+    }
+
+    /**
+     * Get the ordinal another year gives the same month, so a selection survives a year change
+     * even when the leap month moves or disappears.
+     *
+     * @param month Month ordinal in this year, starting from 1
+     * @param target Month table of the other year
+     * @return Month ordinal in the other year
+     */
+    public int mapMonth(int month, MonthTable target) {
+        return target.getOrdinal(getMonthNumber(month), isLeapMonth(month));
+    }
+
+    /**
+     * Get the ordinal of a month, the regular month is used if this year has no such leap month.
+     *
+     * @param number Month number, 1 to 12
+     * @param isLeap true for the leap month of that number
+     * @return Month ordinal, starting from 1
+     */
+    public int getOrdinal(int number, boolean isLeap) {
+        if (isLeap && mLeapMonth != 0 && number == mLeapMonth - 1) {
+            return mLeapMonth;
+        }
+        return mLeapMonth != 0 && number >= mLeapMonth ? number + 1 : number;
+    }
+}
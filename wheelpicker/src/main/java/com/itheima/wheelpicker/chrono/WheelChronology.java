@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.chrono;
+
+import java.util.Date;
+
+/**
+ * Calendar system used by the date wheels.
+ * Months are addressed by their 1-based ordinal inside the year, so a year with a leap month
+ * has 13 ordinals and the leap month takes the ordinal right after the month it repeats.
+ */
+public interface WheelChronology {
+    /**
+     * Get the smallest year this calendar system can represent.
+     *
+     * @return Minimum year
+     */
+    int getMinYear();
+
+    /**
+     * Get the largest year this calendar system can represent.
+     *
+     * @return Maximum year
+     */
+    int getMaxYear();
+
+    /**
+     * Get the month structure of a year.
+     * Implementations cache the tables, so calling this while the year wheel scrolls is cheap.
+     *
+     * @param year Year
+     * @return Month table of the year
+     */
+    MonthTable getMonthTable(int year);
+
+    /**
+     * Get the number of months in a year.
+     *
+     * @param year Year
+     * @return Months of the year, 12 or 13
+     */
+    int getMonthsInYear(int year);
+
+    /**
+     * Get the number of days in a month.
+     *
+     * @param year  Year
+     * @param month Month ordinal, starting from 1
+     * @return Days of the month
+     */
+    int getDaysInMonth(int year, int month);
+
+    /**
+     * Convert a date of this calendar system to a {@link Date} at local midnight.
+     *
+     * @param year  Year
+     * @param month Month ordinal, starting from 1
+     * @param day   Day of month, starting from 1
+     * @return Date
+     */
+    Date toDate(int year, int month, int day);
+
+    /**
+     * Convert a {@link Date} to this calendar system.
+     *
+     * @param date Date
+     * @return Array of year, month ordinal and day of month
+     */
+    int[] fromDate(Date date);
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List that tells the wheels showing it which items were inserted, removed or changed.
+ * A wheel updates only what a change touches instead of starting over as
+ * {@link com.itheima.wheelpicker.WheelPicker#setData(List)} does, so its selection stays on the same item.
+ * Changes must be reported on the main thread.
+ *
+ * @param <T> item type
+ */
+public abstract class AbstractObservableWheelData<T> extends AbstractList<T> implements RandomAccess {
+    private final List<DataObserver> mObservers = new ArrayList<>();
+
+    /**
+     * Register an observer, wheels register themselves when the list is set as their data.
+     *
+     * @param observer observer
+     */
+    public void registerObserver(DataObserver observer) {
+        if (!mObservers.contains(observer)) {
+            mObservers.add(observer);
+        }
+    }
+
+    /**
+     * Unregister an observer.
+     *
+     * @param observer observer
+     */
+    public void unregisterObserver(DataObserver observer) {
+        mObservers.remove(observer);
+    }
+
+    /**
+     * Tell the observers that items changed in place, for example mutable items whose label changed.
+     *
+     * @param start first changed position
+     * @param count number of changed items
+     */
+    public void notifyItemRangeChanged(int start, int count) {
+        checkRange(start, count, size());
+        for (int i = mObservers.size() - 1; i >= 0; i--) {
+            mObservers.get(i).onItemRangeChanged(start, count);
+        }
+    }
+
+    /**
+     * Tell the observers that items were inserted.
+     *
+     * @param start position of the first inserted item
+     * @param count number of inserted items
+     */
+    protected void notifyItemRangeInserted(int start, int count) {
+        checkRange(start, count, size());
+        for (int i = mObservers.size() - 1; i >= 0; i--) {
+            mObservers.get(i).onItemRangeInserted(start, count);
+        }
+    }
+
+    /**
+     * Tell the observers that items were removed.
+     *
+     * @param start position the first removed item had
+     * @param count number of removed items
+     */
+    protected void notifyItemRangeRemoved(int start, int count) {
+        checkRange(start, count, size() + count);
+        for (int i = mObservers.size() - 1; i >= 0; i--) {
+            mObservers.get(i).onItemRangeRemoved(start, count);
+        }
+    }
+
+    private static void checkRange(int start, int count, int size) {
+        if (start < 0 || count < 0 || start + count > size) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + (start + count)
+                    + ") is out of [0, " + size + ")");
+        }
+    }
+    /**
+     * Receives the changes of an {@link AbstractObservableWheelData}, called after the list changed.
+     */
+    public interface DataObserver {
+        /**
+         * Items were inserted.
+         *
+         * @param start position of the first inserted item
+         * @param count number of inserted items
+         */
+        void onItemRangeInserted(int start, int count);
+
+        /**
+         * Items were removed.
+         *
+         * @param start position the first removed item had
+         * @param count number of removed items
+         */
+        void onItemRangeRemoved(int start, int count);
+
+        /**
+         * Items were replaced or changed in place.
+         *
+         * @param start position of the first changed item
+         * @param count number of changed items
+         */
+        void onItemRangeChanged(int start, int count);
+    }
+}
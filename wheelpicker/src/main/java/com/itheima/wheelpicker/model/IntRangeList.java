@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.model;
+
+import com.itheima.wheelpicker.IPositionResolver;
+import com.itheima.wheelpicker.IWidestTextHint;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of consecutive integers, values are computed from their position.
+ * Positions and the widest item are found arithmetically, without scanning the range.
+ */
+public final class IntRangeList extends AbstractList<Integer>
+        implements RandomAccess, IPositionResolver, IWidestTextHint {
+    private final int mStart;
+
+    private final int mSize;
+
+    /**
+     * Create a range.
+     *
+     * @param start first value
+     * @param end last value, inclusive
+     */
+    public IntRangeList(int start, int end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Range end " + end + " is before start " + start);
+        }
+        mStart = start;
+        mSize = end - start + 1;
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+        }
+        return mStart + index;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        if (!(value instanceof Integer)) {
+            return -1;
+        }
+        long index = (long) (Integer) value - mStart;
+        return index >= 0 && index < mSize ? (int) index : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        return indexOf(value);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int resolvePosition(Object value) {
+        return indexOf(value);
+    }
+
+    @Override
+    public String getWidestText() {
+        String first = String.valueOf(mStart);
+        String last = String.valueOf(mStart + mSize - 1);
+        return last.length() >= first.length() ? last : first;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Observable list held in memory, every change made through the list is reported to the wheels
+ * showing it. Items changed in place are reported with {@link #notifyItemRangeChanged(int, int)}.
+ * Changes must be made on the main thread.
+ *
+ * @param <T> item type
+ */
+public class ObservableWheelData<T> extends AbstractObservableWheelData<T> {
+    private final ArrayList<T> mItems;
+
+    public ObservableWheelData() {
+        mItems = new ArrayList<>();
+    }
+
+    public ObservableWheelData(Collection<? extends T> items) {
+        mItems = new ArrayList<>(items);
+    }
+
+    @Override
+    public T get(int index) {
+        return mItems.get(index);
+    }
+
+    @Override
+    public int size() {
+        return mItems.size();
+    }
+
+    @Override
+    public T set(int index, T item) {
+        T previous = mItems.set(index, item);
+        notifyItemRangeChanged(index, 1);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T item) {
+        mItems.add(index, item);
+        modCount++;
+        notifyItemRangeInserted(index, 1);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> items) {
+        int count = items.size();
+        if (!mItems.addAll(index, items)) {
+            return false;
+        }
+        modCount++;
+        notifyItemRangeInserted(index, count);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> items) {
+        return addAll(mItems.size(), items);
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = mItems.remove(index);
+        modCount++;
+        notifyItemRangeRemoved(index, 1);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        mItems.subList(fromIndex, toIndex).clear();
+        modCount++;
+        notifyItemRangeRemoved(fromIndex, toIndex - fromIndex);
+    }
+}
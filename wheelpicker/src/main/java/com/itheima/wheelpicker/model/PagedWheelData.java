@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.model;
+
+import com.itheima.wheelpicker.IPositionResolver;
+import com.itheima.wheelpicker.IWidestTextHint;
+import com.itheima.wheelpicker.util.LogUtil;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import ohos.eventhandler.EventHandler;
+import ohos.eventhandler.EventRunner;
+
+/**
+ * Wheel data with a known size whose items are loaded page by page, for example from a database.
+ * A wheel only asks for the items it draws, so pages around the visible items are loaded on a
+ * background thread while a placeholder is shown in their place. Loaded pages are kept in a
+ * bounded cache, the least recently used page is dropped first.
+ *
+ * <p>Items are only loaded when asked for, so avoid calls that read every item, such as
+ * {@link com.itheima.wheelpicker.WheelPicker#scrollToMatch(String)}. Looking a value up with
+ * {@link com.itheima.wheelpicker.IWheelPicker#getPositionOf(Object)} only searches the loaded pages.
+ * The width of the wheel follows {@link #getWidestText()}. Items a short page did not return also
+ * show the placeholder.
+ *
+ * <p>Every method must be called on the main thread, only {@link PageSource#loadPage(int, int)}
+ * runs on the background thread.
+ *
+ * @param <T> item type
+ */
+public class PagedWheelData<T> extends AbstractObservableWheelData<Object>
+        implements IWidestTextHint, IPositionResolver {
+    private static final String TAG = PagedWheelData.class.getSimpleName();
+
+    private static final String DEFAULT_PLACEHOLDER = "...";
+
+    /**
+     * Background runner shared by all paged data.
+     */
+    private static EventHandler sLoadHandler;
+
+    /**
+     * Runs the page loads.
+     */
+    private final Executor mLoadExecutor;
+
+    /**
+     * Delivers the loaded pages.
+     */
+    private final Executor mMainExecutor;
+
+    private final PageSource<T> mSource;
+
+    private final int mSize;
+
+    private final int mPageSize;
+
+    private final int mMaxCachedPages;
+
+    private final Map<Integer, List<T>> mPages;
+
+    private final Set<Integer> mLoadingPages = new HashSet<>();
+
+    private String mPlaceholder = DEFAULT_PLACEHOLDER;
+
+    private String mWidestText;
+
+    private String mWidestLoadedText;
+
+    /**
+     * Incremented by {@link #invalidate()}, pages loaded for an older generation are dropped.
+     */
+    private int mGeneration;
+
+    /**
+     * Create paged data.
+     *
+     * @param source loads the pages
+     * @param size number of items
+     * @param pageSize number of items per page
+     * @param maxCachedPages number of pages kept in memory, at least 3 so the pages around the
+     *     visible items fit
+     */
+    public PagedWheelData(PageSource<T> source, int size, int pageSize, int maxCachedPages) {
+        this(source, size, pageSize, maxCachedPages, task -> getLoadHandler().postTask(task),
+                new EventHandler(EventRunner.getMainEventRunner())::postTask);
+    }
+
+    /**
+     * Create paged data loading and delivering the pages through the given executors, for tests.
+     *
+     * @param source loads the pages
+     * @param size number of items
+     * @param pageSize number of items per page
+     * @param maxCachedPages number of pages kept in memory
+     * @param loadExecutor runs the page loads
+     * @param mainExecutor delivers the loaded pages on the thread the data is used on
+     */
+    PagedWheelData(PageSource<T> source, int size, int pageSize, int maxCachedPages,
+            Executor loadExecutor, Executor mainExecutor) {
+        if (null == source) {
+            throw new NullPointerException("Page source can not be null!");
+        }
+        if (size < 0 || pageSize < 1 || maxCachedPages < 3) {
+            throw new IllegalArgumentException("Invalid paging, size " + size + ", page size " + pageSize
+                    + ", cached pages " + maxCachedPages);
+        }
+        mSource = source;
+        mSize = size;
+        mPageSize = pageSize;
+        mMaxCachedPages = maxCachedPages;
+        mLoadExecutor = loadExecutor;
+        mMainExecutor = mainExecutor;
+        mPages = new LinkedHashMap<Integer, List<T>>(maxCachedPages * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > mMaxCachedPages;
+            }
+        };
+    }
+
+    /**
+     * Get the item or, if it is not loaded, the placeholder.
+     * Asking for an item that is not loaded starts loading its page and the pages next to it.
+     *
+     * @param index position
+     * @return item or placeholder
+     */
+    @Override
+    public Object get(int index) {
+        T item = getItem(index);
+        return null == item ? mPlaceholder : item;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Get an item, starting to load its page if it is not loaded.
+     *
+     * @param index position
+     * @return item, or null if its page is not loaded yet or was loaded without it
+     */
+    public T getItem(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+        }
+        int page = index / mPageSize;
+        List<T> items = mPages.get(page);
+        if (null == items) {
+            requestPage(page);
+            requestPage(page - 1);
+            requestPage(page + 1);
+            return null;
+        }
+        int offset = index - page * mPageSize;
+        return offset < items.size() ? items.get(offset) : null;
+    }
+
+    /**
+     * Whether the page of an item is loaded.
+     *
+     * @param index position
+     * @return true if the item is loaded
+     */
+    public boolean isLoaded(int index) {
+        return mPages.containsKey(index / mPageSize);
+    }
+
+    /**
+     * Get the position of a value among the loaded items, no page is loaded.
+     *
+     * @param value value to look for
+     * @return position of the value, -1 if no loaded page holds it
+     */
+    @Override
+    public int resolvePosition(Object value) {
+        int position = -1;
+        for (Map.Entry<Integer, List<T>> entry : mPages.entrySet()) {
+            int start = entry.getKey() * mPageSize;
+            if (position >= 0 && start > position) {
+                continue;
+            }
+            List<T> items = entry.getValue();
+            for (int i = 0; i < items.size(); i++) {
+                if (Objects.equals(value, items.get(i))) {
+                    position = start + i;
+                    break;
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Set the text shown for items that are not loaded yet.
+     *
+     * @param placeholder placeholder text
+     */
+    public void setPlaceholder(String placeholder) {
+        if (null == placeholder) {
+            throw new NullPointerException("Placeholder can not be null!");
+        }
+        mPlaceholder = placeholder;
+    }
+
+    /**
+     * Set the text the width of the wheel is based on, for example the longest value the source
+     * may return. Without it the widest text loaded so far is used, so the wheel may grow as
+     * pages arrive.
+     *
+     * @param widestText widest text
+     */
+    public void setWidestText(String widestText) {
+        mWidestText = widestText;
+    }
+
+    @Override
+    public String getWidestText() {
+        if (null != mWidestText) {
+            return mWidestText;
+        }
+        return null != mWidestLoadedText && mWidestLoadedText.length() > mPlaceholder.length()
+                ? mWidestLoadedText : mPlaceholder;
+    }
+
+    /**
+     * Drop every loaded page, for example after the backing store changed.
+     * Pages are loaded again as the wheels draw them.
+     */
+    public void invalidate() {
+        mGeneration++;
+        mPages.clear();
+        mLoadingPages.clear();
+        if (mSize > 0) {
+            notifyItemRangeChanged(0, mSize);
+        }
+    }
+
+    private void requestPage(int page) {
+        if (page < 0 || page * mPageSize >= mSize || mPages.containsKey(page) || !mLoadingPages.add(page)) {
+            return;
+        }
+        final int start = page * mPageSize;
+        final int count = Math.min(mPageSize, mSize - start);
+        final int generation = mGeneration;
+        mLoadExecutor.execute(() -> {
+            List<T> items = null;
+            try {
+                items = mSource.loadPage(start, count);
+            } catch (RuntimeException e) {
+                LogUtil.error(TAG, "loadPage : " + e.getMessage());
+            }
+            final List<T> loaded = items;
+            mMainExecutor.execute(() -> onPageLoaded(generation, page, loaded));
+        });
+    }
+
+    private void onPageLoaded(int generation, int page, List<T> items) {
+        if (generation != mGeneration) {
+            return;
+        }
+        mLoadingPages.remove(page);
+        if (null == items) {
+            // Asked again the next time one of its items is drawn
+            return;
+        }
+        mPages.put(page, items);
+        updateWidestLoadedText(items);
+        int start = page * mPageSize;
+        notifyItemRangeChanged(start, Math.min(mPageSize, mSize - start));
+    }
+
+    private void updateWidestLoadedText(List<T> items) {
+        for (T item : items) {
+            if (null == item) {
+                continue;
+            }
+            String text = String.valueOf(item);
+            if (null == mWidestLoadedText || text.length() > mWidestLoadedText.length()) {
+                mWidestLoadedText = text;
+            }
+        }
+    }
+
+    private static synchronized EventHandler getLoadHandler() {
+        if (null == sLoadHandler) {
+            sLoadHandler = new EventHandler(EventRunner.create());
+        }
+        return sLoadHandler;
+    }
+
+    /**
+     * Loads the items of {@link PagedWheelData}.
+     *
+     * @param <T> item type
+     */
+    public interface PageSource<T> {
+        /**
+         * Load a page of items, called on a background thread.
+         *
+         * @param start position of the first item
+         * @param count number of items
+         * @return items, may be shorter than count if the store has fewer items
+         */
+        List<T> loadPage(int start, int count);
+    }
+}
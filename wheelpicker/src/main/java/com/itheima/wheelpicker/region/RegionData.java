@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.region;
+
+import com.itheima.wheelpicker.IWidestTextHint;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of a compact region file.
+ *
+ * <p>Layout, all integers are big endian:
+ * <pre>
+ * header      int32 magic, version, stringCount, provinceCount, cityCount, areaCount
+ * strings     int32 * (stringCount + 1) offsets into the string data, the last one is its length
+ * provinces   uint16 * provinceCount * (name, firstCity, cityCount)
+ * cities      uint16 * cityCount * (name, firstArea, areaCount)
+ * areas       uint16 * areaCount * name
+ * string data UTF-8 bytes of every distinct name
+ * </pre>
+ * Names are indices into the string table and are only decoded when they are asked for.
+ * Name lists are built once per province and city and report their widest name to the wheels.
+ * Instances are read-only and may be shared between pickers and threads.
+ */
+public final class RegionData {
+    static final int MAGIC = 0x57505247;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_INTS = 6;
+
+    static final int PROVINCE_FIELDS = 3;
+
+    static final int CITY_FIELDS = 3;
+
+    static final int MAX_INDEX = 0xFFFF;
+
+    private static final int INT_BYTES = 4;
+
+    private static final int SHORT_BYTES = 2;
+
+    private static final int BUFFER_LENGTH = 8192;
+
+    private static final char CJK_START = '\u2E80';
+
+    private final ByteBuffer mBuffer;
+
+    private final int mProvinceCount;
+    private final int mCityCount;
+    private final int mAreaCount;
+
+    private final int mStringOffsetsStart;
+    private final int mProvincesStart;
+    private final int mCitiesStart;
+    private final int mAreasStart;
+    private final int mStringDataStart;
+
+    /**
+     * Decoded names by string index, filled lazily.
+     */
+    private final String[] mStrings;
+
+    /**
+     * Name lists, built lazily and reused by every picker sharing this data.
+     */
+    private volatile NameList mProvinceNames;
+    private final NameList[] mCityNames;
+    private final NameList[] mAreaNames;
+
+    private RegionData(ByteBuffer buffer) {
+        mBuffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (mBuffer.capacity() < HEADER_INTS * INT_BYTES || mBuffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a region data file!");
+        }
+        if (mBuffer.getInt(INT_BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported region data version " + mBuffer.getInt(INT_BYTES));
+        }
+        int stringCount = mBuffer.getInt(2 * INT_BYTES);
+        mProvinceCount = mBuffer.getInt(3 * INT_BYTES);
+        mCityCount = mBuffer.getInt(4 * INT_BYTES);
+        mAreaCount = mBuffer.getInt(5 * INT_BYTES);
+
+        mStringOffsetsStart = HEADER_INTS * INT_BYTES;
+        mProvincesStart = mStringOffsetsStart + (stringCount + 1) * INT_BYTES;
+        mCitiesStart = mProvincesStart + mProvinceCount * PROVINCE_FIELDS * SHORT_BYTES;
+        mAreasStart = mCitiesStart + mCityCount * CITY_FIELDS * SHORT_BYTES;
+        mStringDataStart = mAreasStart + mAreaCount * SHORT_BYTES;
+        if (mStringDataStart + stringOffset(stringCount) > mBuffer.capacity()) {
+            throw new IllegalArgumentException("Region data file is truncated!");
+        }
+        mStrings = new String[stringCount];
+        mCityNames = new NameList[mProvinceCount];
+        mAreaNames = new NameList[mCityCount];
+    }
+
+    /**
+     * Wrap a buffer holding a region file, the buffer is not copied.
+     *
+     * @param buffer region file content, for example a mapped file
+     * @return region data
+     */
+    public static RegionData wrap(ByteBuffer buffer) {
+        return new RegionData(buffer);
+    }
+
+    /**
+     * Read a region file into a direct buffer.
+     *
+     * @param inputStream region file stream, not closed by this method
+     * @return region data
+     * @throws IOException if the stream can not be read
+     */
+    public static RegionData read(InputStream inputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(inputStream.available(), BUFFER_LENGTH));
+        byte[] chunk = new byte[BUFFER_LENGTH];
+        int bytesRead = inputStream.read(chunk);
+        while (bytesRead != -1) {
+            if (buffer.remaining() < bytesRead) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2,
+                        buffer.position() + bytesRead));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+            buffer.put(chunk, 0, bytesRead);
+            bytesRead = inputStream.read(chunk);
+        }
+        buffer.flip();
+        return new RegionData(buffer.slice());
+    }
+
+    public int getProvinceCount() {
+        return mProvinceCount;
+    }
+
+    public String getProvinceName(int province) {
+        return string(provinceInt(province, 0));
+    }
+
+    public int getCityCount(int province) {
+        return provinceInt(province, 2);
+    }
+
+    public String getCityName(int province, int city) {
+        return string(cityInt(cityIndex(province, city), 0));
+    }
+
+    public int getAreaCount(int province, int city) {
+        return cityInt(cityIndex(province, city), 2);
+    }
+
+    public String getAreaName(int province, int city, int area) {
+        return string(mBuffer.getChar(mAreasStart + areaIndex(province, city, area) * SHORT_BYTES));
+    }
+
+    /**
+     * Get the province names.
+     * The list is built on first use and the same immutable instance is returned afterwards.
+     *
+     * @return province names
+     */
+    public List<String> getProvinceNames() {
+        NameList names = mProvinceNames;
+        if (null == names) {
+            String[] array = new String[mProvinceCount];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = getProvinceName(i);
+            }
+            names = new NameList(array);
+            mProvinceNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * Get the city names of a province.
+     * The list is built on first use and the same immutable instance is returned afterwards.
+     *
+     * @param province province index
+     * @return city names
+     */
+    public List<String> getCityNames(int province) {
+        checkIndex(province, mProvinceCount);
+        NameList names = mCityNames[province];
+        if (null == names) {
+            String[] array = new String[getCityCount(province)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = getCityName(province, i);
+            }
+            names = new NameList(array);
+            mCityNames[province] = names;
+        }
+        return names;
+    }
+
+    /**
+     * Get the area names of a city.
+     * The list is built on first use and the same immutable instance is returned afterwards.
+     *
+     * @param province province index
+     * @param city city index in the province
+     * @return area names
+     */
+    public List<String> getAreaNames(int province, int city) {
+        int cityIndex = cityIndex(province, city);
+        NameList names = mAreaNames[cityIndex];
+        if (null == names) {
+            String[] array = new String[cityInt(cityIndex, 2)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = getAreaName(province, city, i);
+            }
+            names = new NameList(array);
+            mAreaNames[cityIndex] = names;
+        }
+        return names;
+    }
+
+    private int provinceInt(int province, int field) {
+        checkIndex(province, mProvinceCount);
+        return mBuffer.getChar(mProvincesStart + (province * PROVINCE_FIELDS + field) * SHORT_BYTES);
+    }
+
+    private int cityInt(int cityIndex, int field) {
+        return mBuffer.getChar(mCitiesStart + (cityIndex * CITY_FIELDS + field) * SHORT_BYTES);
+    }
+
+    private int cityIndex(int province, int city) {
+        checkIndex(city, getCityCount(province));
+        return provinceInt(province, 1) + city;
+    }
+
+    private int areaIndex(int province, int city, int area) {
+        int cityIndex = cityIndex(province, city);
+        checkIndex(area, cityInt(cityIndex, 2));
+        return cityInt(cityIndex, 1) + area;
+    }
+
+    private int stringOffset(int stringIndex) {
+        return mBuffer.getInt(mStringOffsetsStart + stringIndex * INT_BYTES);
+    }
+
+    private String string(int stringIndex) {
+        String value = mStrings[stringIndex];
+        if (null == value) {
+            int start = stringOffset(stringIndex);
+            int end = stringOffset(stringIndex + 1);
+            byte[] bytes = new byte[end - start];
+            // Absolute reads only, so concurrent readers never share a buffer position
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = mBuffer.get(mStringDataStart + start + i);
+            }
+            value = new String(bytes, StandardCharsets.UTF_8);
+            mStrings[stringIndex] = value;
+        }
+        return value;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Immutable name list that remembers its widest name, so a wheel showing it does not have to
+     * measure every name. Only final fields, so instances are safely shared between threads.
+     *
+     * <p>The widest name is guessed without a font, counting CJK characters as two Latin ones. Names
+     * mixing narrow and wide Latin letters, or a font with other proportions, may make another name
+     * wider, which the wheel then clips. Set
+     * {@link com.itheima.wheelpicker.IWheelPicker#setMaximumWidthText(String)} in that case.
+     */
+    private static final class NameList extends AbstractList<String> implements RandomAccess, IWidestTextHint {
+        private final String[] mNames;
+
+        private final String mWidestName;
+
+        NameList(String[] names) {
+            mNames = names;
+            String widest = null;
+            int widestWeight = -1;
+            for (String name : names) {
+                int weight = displayWeight(name);
+                if (weight > widestWeight) {
+                    widest = name;
+                    widestWeight = weight;
+                }
+            }
+            mWidestName = widest;
+        }
+
+        @Override
+        public String get(int index) {
+            return mNames[index];
+        }
+
+        @Override
+        public int size() {
+            return mNames.length;
+        }
+
+        @Override
+        public String getWidestText() {
+            return mWidestName;
+        }
+
+        private static int displayWeight(String name) {
+            // CJK glyphs are about twice as wide as Latin ones in the fonts the wheels use
+            int weight = 0;
+            for (int i = 0; i < name.length(); i++) {
+                weight += name.charAt(i) >= CJK_START ? 2 : 1;
+            }
+            return weight;
+        }
+    }
+}
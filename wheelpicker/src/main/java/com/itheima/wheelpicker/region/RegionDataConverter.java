@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.region;
+
+import com.itheima.wheelpicker.model.City;
+import com.itheima.wheelpicker.model.Province;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the serialized region list (RegionJsonData.dat) to the compact format read by
+ * {@link RegionData}.
+ *
+ * <p>Run on a desktop JVM with the library classes on the class path:
+ * <pre>
+ * java com.itheima.wheelpicker.region.RegionDataConverter RegionJsonData.dat RegionData.bin
+ * </pre>
+ */
+public final class RegionDataConverter {
+    /**
+     * Package the original data file was serialized from.
+     */
+    private static final String LEGACY_MODEL_PACKAGE = "com.aigestudio.wheelpicker.model.";
+
+    private static final String MODEL_PACKAGE = "com.itheima.wheelpicker.model.";
+
+    private RegionDataConverter() {
+    }
+
+    /**
+     * Convert a serialized region file.
+     *
+     * @param args source .dat path and target path
+     * @throws IOException if a file can not be read or written
+     * @throws ClassNotFoundException if the source holds unknown classes
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: RegionDataConverter <source.dat> <target.bin>");
+        }
+        List<Province> provinces;
+        try (InputStream inputStream = new FileInputStream(args[0])) {
+            provinces = readLegacy(inputStream);
+        }
+        try (OutputStream outputStream = new FileOutputStream(args[1])) {
+            outputStream.write(convert(provinces));
+        }
+    }
+
+    /**
+     * Read a serialized region list.
+     * Classes serialized under the original package name are mapped to this library's model.
+     *
+     * @param inputStream serialized region list, not closed by this method
+     * @return provinces
+     * @throws IOException if the stream can not be read
+     * @throws ClassNotFoundException if the stream holds unknown classes
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Province> readLegacy(InputStream inputStream) throws IOException, ClassNotFoundException {
+        ObjectInputStream objectInputStream = new ObjectInputStream(inputStream) {
+            @Override
+            protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+                ObjectStreamClass descriptor = super.readClassDescriptor();
+                if (descriptor.getName().startsWith(LEGACY_MODEL_PACKAGE)) {
+                    String name = MODEL_PACKAGE + descriptor.getName().substring(LEGACY_MODEL_PACKAGE.length());
+                    return ObjectStreamClass.lookup(Class.forName(name));
+                }
+                return descriptor;
+            }
+        };
+        return (List<Province>) objectInputStream.readObject();
+    }
+
+    /**
+     * Encode provinces in the compact region format.
+     *
+     * @param provinces provinces
+     * @return region file content
+     */
+    public static byte[] convert(List<Province> provinces) {
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        List<int[]> provinceRows = new ArrayList<>();
+        List<int[]> cityRows = new ArrayList<>();
+        List<Integer> areaRows = new ArrayList<>();
+
+        for (Province province : provinces) {
+            List<City> cities = province.getCity();
+            provinceRows.add(new int[] {intern(province.getName(), stringIndices, strings), cityRows.size(),
+                cities.size()});
+            for (City city : cities) {
+                List<String> areas = city.getArea();
+                cityRows.add(new int[] {intern(city.getName(), stringIndices, strings), areaRows.size(),
+                    areas.size()});
+                for (String area : areas) {
+                    areaRows.add(intern(area, stringIndices, strings));
+                }
+            }
+        }
+
+        if (strings.size() > RegionData.MAX_INDEX || cityRows.size() > RegionData.MAX_INDEX
+                || areaRows.size() > RegionData.MAX_INDEX) {
+            throw new IllegalArgumentException("Region data can hold at most " + RegionData.MAX_INDEX
+                    + " names, cities and areas");
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(RegionData.MAGIC);
+            out.writeInt(RegionData.VERSION);
+            out.writeInt(strings.size());
+            out.writeInt(provinceRows.size());
+            out.writeInt(cityRows.size());
+            out.writeInt(areaRows.size());
+
+            List<byte[]> encoded = new ArrayList<>(strings.size());
+            int offset = 0;
+            for (String string : strings) {
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                encoded.add(utf8);
+                out.writeInt(offset);
+                offset += utf8.length;
+            }
+            out.writeInt(offset);
+            for (int[] row : provinceRows) {
+                writeRow(out, row);
+            }
+            for (int[] row : cityRows) {
+                writeRow(out, row);
+            }
+            for (int area : areaRows) {
+                out.writeShort(area);
+            }
+            for (byte[] utf8 : encoded) {
+                out.write(utf8);
+            }
+        } catch (IOException e) {
+            // Writes to memory can not fail
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int intern(String value, Map<String, Integer> indices, List<String> strings) {
+        String name = null == value ? "" : value;
+        Integer index = indices.get(name);
+        if (null == index) {
+            index = strings.size();
+            strings.add(name);
+            indices.put(name, index);
+        }
+        return index;
+    }
+
+    private static void writeRow(DataOutputStream out, int[] row) throws IOException {
+        for (int value : row) {
+            out.writeShort(value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.region;
+
+import com.itheima.wheelpicker.util.LogUtil;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import ohos.app.Context;
+
+/**
+ * Process-wide holder of the packaged region data.
+ * The first caller loads the file, later callers share the same immutable {@link RegionData}.
+ * The data is kept through a soft reference, so it is only reloaded if every picker using it
+ * has gone and the system reclaimed the memory.
+ */
+public final class RegionRepository {
+    private static final String TAG = RegionRepository.class.getSimpleName();
+
+    private static final String REGION_DATA_PATH = "resources/rawfile/RegionData.bin";
+
+    private static final String LEGACY_REGION_DATA_PATH = "resources/rawfile/RegionJsonData.dat";
+
+    /**
+     * Written under the class lock by {@link #obtain(Context)}, read without it by {@link #peek()}.
+     */
+    private static volatile SoftReference<RegionData> sRegionData = new SoftReference<>(null);
+
+    private RegionRepository() {
+    }
+
+    /**
+     * Get the region data if it is already loaded.
+     * Never waits for a load running on another thread, so it is safe on the UI thread.
+     *
+     * @return region data, or null if it still has to be loaded
+     */
+    public static RegionData peek() {
+        return sRegionData.get();
+    }
+
+    /**
+     * Get the region data, loading it on the calling thread if no picker has loaded it yet.
+     * Concurrent callers wait for the first load instead of loading again.
+     *
+     * @param context context
+     * @return region data, or null if the file can not be loaded
+     */
+    public static synchronized RegionData obtain(Context context) {
+        RegionData regionData = sRegionData.get();
+        if (null == regionData) {
+            regionData = load(context);
+            if (null != regionData) {
+                sRegionData = new SoftReference<>(regionData);
+            }
+        }
+        return regionData;
+    }
+
+    private static RegionData load(Context context) {
+        try (
+            InputStream inputStream = context.getResourceManager().getRawFileEntry(REGION_DATA_PATH).openRawFile()
+        ) {
+            return RegionData.read(inputStream);
+        } catch (FileNotFoundException exception) {
+            LogUtil.error(TAG, "loadRegionsFromFile : FileNotFoundException");
+        } catch (IOException | IllegalArgumentException exception) {
+            LogUtil.error(TAG, "loadRegionsFromFile : " + exception.getMessage());
+        }
+        return loadLegacy(context);
+    }
+
+    private static RegionData loadLegacy(Context context) {
+        // Slow path, only taken when the compact file is missing from the package
+        try (
+            InputStream inputStream = context.getResourceManager().getRawFileEntry(LEGACY_REGION_DATA_PATH)
+                    .openRawFile()
+        ) {
+            byte[] converted = RegionDataConverter.convert(RegionDataConverter.readLegacy(inputStream));
+            return RegionData.read(new ByteArrayInputStream(converted));
+        } catch (FileNotFoundException exception) {
+            LogUtil.error(TAG, "loadLegacyRegionsFromFile : FileNotFoundException");
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "loadLegacyRegionsFromFile : IOException");
+        } catch (ClassNotFoundException e) {
+            LogUtil.error(TAG, "loadLegacyRegionsFromFile : ClassNotFoundException");
+        }
+        return null;
+    }
+}
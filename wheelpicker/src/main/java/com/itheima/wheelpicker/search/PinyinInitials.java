@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.search;
+
+/**
+ * Pinyin initials of Chinese text, for example "gd" for "广东".
+ * Every character of the CJK Unified Ideographs block has an initial, see {@link PinyinInitialTable}.
+ * A character takes the initial of a single reading, so words that use another reading, like
+ * "重庆", get the initial of the common one.
+ */
+public final class PinyinInitials {
+    private static final char CJK_END = '鿿';
+
+    private PinyinInitials() {
+    }
+
+    /**
+     * Whether initials can be computed on this system.
+     *
+     * @return true, the table ships with the library
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Whether the text has a Chinese character.
+     *
+     * @param text text
+     * @return true if an initial may be computed for the text
+     */
+    public static boolean hasChinese(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChinese(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the initials of a text.
+     * Chinese characters are replaced by their initial, letters and digits are kept in lower case,
+     * everything else is dropped.
+     *
+     * @param text text
+     * @return initials
+     */
+    public static String of(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isChinese(ch)) {
+                char initial = initialOf(ch);
+                if (initial != 0) {
+                    builder.append(initial);
+                }
+            } else if (Character.isLetterOrDigit(ch)) {
+                builder.append(Character.toLowerCase(ch));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChinese(char ch) {
+        return ch >= PinyinInitialTable.FIRST && ch <= CJK_END;
+    }
+
+    private static char initialOf(char ch) {
+        char initial = PinyinInitialTable.INITIALS.charAt(ch - PinyinInitialTable.FIRST);
+        return initial == PinyinInitialTable.NONE ? 0 : initial;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable prefix index over the items of a wheel.
+ * Every item is indexed by its lower case text and, when it has Chinese characters, by its pinyin
+ * initials. Keys are kept sorted, so a prefix is found with two binary searches.
+ */
+public final class WheelSearchIndex {
+    private final String[] mKeys;
+
+    private final int[] mPositions;
+
+    private WheelSearchIndex(String[] keys, int[] positions) {
+        mKeys = keys;
+        mPositions = positions;
+    }
+
+    /**
+     * Build an index, items are converted to text with {@link String#valueOf(Object)}.
+     *
+     * @param data items, must not change while the index is built
+     * @param hasPinyinInitials whether Chinese items are also indexed by their pinyin initials
+     * @return index
+     */
+    public static WheelSearchIndex build(List<?> data, boolean hasPinyinInitials) {
+        boolean isPinyin = hasPinyinInitials && PinyinInitials.isSupported();
+        List<Entry> entries = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            String text = String.valueOf(data.get(i));
+            entries.add(new Entry(normalize(text), i));
+            if (isPinyin && PinyinInitials.hasChinese(text)) {
+                String initials = PinyinInitials.of(text);
+                if (!initials.isEmpty()) {
+                    entries.add(new Entry(initials, i));
+                }
+            }
+        }
+        Collections.sort(entries);
+        String[] keys = new String[entries.size()];
+        int[] positions = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).mKey;
+            positions[i] = entries.get(i).mPosition;
+        }
+        return new WheelSearchIndex(keys, positions);
+    }
+
+    /**
+     * Find the first item, in key order, whose text or initials start with the query.
+     *
+     * @param query prefix, case insensitive
+     * @return position of the item, -1 if nothing matches
+     */
+    public int findFirst(String query) {
+        String prefix = normalize(query);
+        int index = lowerBound(prefix);
+        if (index < mKeys.length && mKeys[index].startsWith(prefix)) {
+            return mPositions[index];
+        }
+        return -1;
+    }
+
+    /**
+     * Find every item whose text or initials start with the query.
+     *
+     * @param query prefix, case insensitive
+     * @return positions in ascending order
+     */
+    public int[] findAll(String query) {
+        String prefix = normalize(query);
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        int[] positions = new int[to - from];
+        System.arraycopy(mPositions, from, positions, 0, positions.length);
+        Arrays.sort(positions);
+        // An item matched by both its text and its initials is reported once
+        int count = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (count == 0 || positions[count - 1] != positions[i]) {
+                positions[count++] = positions[i];
+            }
+        }
+        return count == positions.length ? positions : Arrays.copyOf(positions, count);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = mKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (mKeys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String mKey;
+
+        private final int mPosition;
+
+        Entry(String key, int position) {
+            mKey = key;
+            mPosition = position;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = mKey.compareTo(other.mKey);
+            return result != 0 ? result : Integer.compare(mPosition, other.mPosition);
+        }
+    }
+}
@@ -23,15 +23,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import ohos.agp.components.Attr;
 import ohos.agp.components.AttrSet;
 import ohos.agp.components.element.Element;
 import ohos.agp.text.Font;
 import ohos.app.Context;
+import ohos.bundle.BundleInfo;
+import ohos.bundle.IBundleManager;
 import ohos.global.resource.NotExistException;
+import ohos.global.resource.RawFileDescriptor;
 import ohos.global.resource.ResourceManager;
 import ohos.global.resource.WrongTypeException;
+import ohos.rpc.RemoteException;
 
 
 /**
@@ -46,9 +52,28 @@ public final class AttrUtil {
 
     private static final String RAW_FILE_PATH = "entry/resources/rawfile/";
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final String FONT_DIR = "fonts";
+
+    private static final int UNKNOWN_VERSION = -1;
+
+    /**
+     * Fonts by font file name, shared by all pickers of the process.
+     */
+    private static final Map<String, Font> FONT_CACHE = new HashMap<>();
+
     private AttrUtil() {
     }
 
+    private static Optional<Attr> getAttr(AttrSet attrSet, String key) {
+        // Components created in code have no attribute set
+        if (null == attrSet || null == key) {
+            return Optional.empty();
+        }
+        return attrSet.getAttr(key);
+    }
+
     /**
      * To get Color Value from key.
      *
@@ -60,7 +85,7 @@ public final class AttrUtil {
      * @return integer
      */
     public static int getColorValue(AttrSet attrSet, String key, int defValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getColorValue().getValue();
         } else {
@@ -77,7 +102,7 @@ public final class AttrUtil {
      * @return boolean
      */
     public static boolean getBooleanValue(AttrSet attrSet, String key, boolean isDefValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getBoolValue();
         } else {
@@ -94,7 +119,7 @@ public final class AttrUtil {
      * @return Element
      */
     public static Element getElementValue(AttrSet attrSet, String key, Element defValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getElement();
         } else {
@@ -111,7 +136,7 @@ public final class AttrUtil {
      * @return String
      */
     public static String getStringValue(AttrSet attrSet, String key, String defValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getStringValue();
         } else {
@@ -128,7 +153,7 @@ public final class AttrUtil {
      * @return float
      */
     public static float getDimension(AttrSet attrSet, String key, float defDimensionValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getDimensionValue();
         } else {
@@ -145,7 +170,7 @@ public final class AttrUtil {
      * @return Integer
      */
     public static int getIntegerValue(AttrSet attrSet, String key, int defValue) {
-        Optional<Attr> temp = attrSet.getAttr(key);
+        Optional<Attr> temp = getAttr(attrSet, key);
         if (temp.isPresent()) {
             return temp.get().getIntegerValue();
         } else {
@@ -155,16 +180,72 @@ public final class AttrUtil {
 
     /**
      * To create Font.
+     * The raw font file is copied to the data directory once per version of the app, later calls
+     * with the same font share one Font instance.
      *
      * @param context context
      * @param fontFamily font type
      * @return Font
      */
     public static Font createFont(Context context, String fontFamily) {
+        synchronized (FONT_CACHE) {
+            Font font = FONT_CACHE.get(fontFamily);
+            if (null == font) {
+                int versionCode = getVersionCode(context);
+                // Copies live in a directory named after the app version, so an update copies its fonts again
+                File dir = new File(new File(context.getDataDir(), FONT_DIR), String.valueOf(versionCode));
+                File file = new File(dir, fontFamily);
+                boolean isReady = (versionCode != UNKNOWN_VERSION && isFontFileReady(context, fontFamily, file))
+                        || copyFontFile(context, fontFamily, file);
+                font = new Font.Builder(file).setWeight(Font.REGULAR).build();
+                if (isReady) {
+                    FONT_CACHE.put(fontFamily, font);
+                }
+            }
+            return font;
+        }
+    }
+
+    private static int getVersionCode(Context context) {
+        try {
+            IBundleManager manager = context.getBundleManager();
+            BundleInfo info = null == manager ? null : manager.getBundleInfo(context.getBundleName(), 0);
+            return null == info ? UNKNOWN_VERSION : info.getVersionCode();
+        } catch (RemoteException exception) {
+            LogUtil.error(TAG, "getVersionCode : RemoteException");
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private static boolean isFontFileReady(Context context, String fontFamily, File file) {
+        if (!file.isFile()) {
+            return false;
+        }
+        RawFileDescriptor descriptor = null;
+        try {
+            descriptor = context.getResourceManager().getRawFileEntry(RAW_FILE_PATH + fontFamily)
+                    .openRawFileDescriptor();
+            // Copies are written to a temporary file first, so a complete size means a complete copy
+            return descriptor.getFileSize() == file.length();
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "isFontFileReady : IOException");
+            return false;
+        } finally {
+            closeQuietly(descriptor);
+        }
+    }
+
+    private static boolean copyFontFile(Context context, String fontFamily, File file) {
         String path = RAW_FILE_PATH + fontFamily;
         LogUtil.error(TAG, "Font Path : " + path);
-        File file = new File(context.getDataDir(), fontFamily);
-        try (OutputStream outputStream = new FileOutputStream(file);
+        File dir = file.getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            LogUtil.error(TAG, "loadFontFromFile : can not create " + dir.getName());
+            return false;
+        }
+        deleteOtherVersions(dir);
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        try (OutputStream outputStream = new FileOutputStream(tempFile);
              InputStream inputStream = context.getResourceManager().getRawFileEntry(path).openRawFile()) {
             byte[] buffers = new byte[BUFFER_LENGTH];
             int bytesRead = inputStream.read(buffers, 0, BUFFER_LENGTH);
@@ -174,10 +255,47 @@ public final class AttrUtil {
             }
         } catch (FileNotFoundException exception) {
             LogUtil.error(TAG, "loadFontFromFile : FileNotFoundException");
+            return false;
         } catch (IOException exception) {
             LogUtil.error(TAG, "loadFontFromFile : IOException");
+            return false;
+        }
+        if (file.exists() && !file.delete()) {
+            LogUtil.error(TAG, "loadFontFromFile : can not replace " + file.getName());
+        }
+        return tempFile.renameTo(file);
+    }
+
+    private static void deleteOtherVersions(File dir) {
+        File[] versions = dir.getParentFile().listFiles();
+        if (null == versions) {
+            return;
+        }
+        for (File version : versions) {
+            if (version.equals(dir)) {
+                continue;
+            }
+            File[] files = version.listFiles();
+            if (null != files) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            if (!version.delete()) {
+                LogUtil.error(TAG, "deleteOtherVersions : can not delete " + version.getName());
+            }
+        }
+    }
+
+    private static void closeQuietly(RawFileDescriptor descriptor) {
+        if (null == descriptor) {
+            return;
+        }
+        try {
+            descriptor.close();
+        } catch (IOException exception) {
+            LogUtil.error(TAG, "closeQuietly : IOException");
         }
-        return Optional.of(new Font.Builder(file).setWeight(Font.REGULAR).build()).get();
     }
 
     /**
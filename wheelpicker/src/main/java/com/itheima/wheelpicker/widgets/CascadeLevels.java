@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.IWidestTextHint;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Node lists of {@link WheelCascadePicker}, fetched from the data source on demand.
+ * Child lists are kept in a bounded cache keyed by the level and the parent node, so equal nodes
+ * on different levels do not share their children.
+ *
+ * @param <T> node type
+ */
+final class CascadeLevels<T> {
+    private final ICascadeDataSource<T> mSource;
+
+    private final Map<ChildKey, Level<T>> mChildCache = new LinkedHashMap<ChildKey, Level<T>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ChildKey, Level<T>> eldest) {
+            return size() > mCacheSize;
+        }
+    };
+
+    private int mCacheSize;
+
+    private Level<T> mRootLevel;
+
+    CascadeLevels(ICascadeDataSource<T> source, int cacheSize) {
+        mSource = source;
+        mCacheSize = cacheSize;
+    }
+
+    /**
+     * Get the nodes of the first level.
+     *
+     * @return root level
+     */
+    Level<T> getRoot() {
+        if (null == mRootLevel) {
+            mRootLevel = new Level<>(mSource, 0, mSource.getChildren(null));
+        }
+        return mRootLevel;
+    }
+
+    /**
+     * Get the children of a node.
+     *
+     * @param level level of the children, at least 1
+     * @param parent parent node on the level above, null for an empty level
+     * @return child level
+     */
+    Level<T> getChildren(int level, T parent) {
+        if (null == parent) {
+            return new Level<>(mSource, level, Collections.<T>emptyList());
+        }
+        ChildKey key = new ChildKey(level, parent);
+        Level<T> children = mChildCache.get(key);
+        if (null == children) {
+            children = new Level<>(mSource, level, mSource.getChildren(parent));
+            mChildCache.put(key, children);
+        }
+        return children;
+    }
+
+    /**
+     * Set how many child lists are kept, least recently used lists are dropped first.
+     *
+     * @param size maximum number of cached child lists
+     */
+    void setCacheSize(int size) {
+        mCacheSize = size;
+        Iterator<ChildKey> eldest = mChildCache.keySet().iterator();
+        while (mChildCache.size() > size) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    int getCachedCount() {
+        return mChildCache.size();
+    }
+
+    /**
+     * Drop every list, they are fetched again when asked for.
+     */
+    void clear() {
+        mChildCache.clear();
+        mRootLevel = null;
+    }
+
+    /**
+     * Nodes of one wheel with their labels.
+     *
+     * @param <T> node type
+     */
+    static final class Level<T> {
+        final List<T> mNodes;
+
+        final List<String> mLabels;
+
+        Level(ICascadeDataSource<T> source, int level, List<T> nodes) {
+            mNodes = nodes;
+            mLabels = new LabelList<>(source, level, nodes);
+        }
+    }
+
+    /**
+     * Labels of a node list, each label is asked from the data source once on first access.
+     * The widest label comes from {@link ICascadeWidestLabel} when the source implements it, so
+     * the wheel does not read every label to measure itself.
+     */
+    private static final class LabelList<T> extends AbstractList<String> implements RandomAccess, IWidestTextHint {
+        private final ICascadeDataSource<T> mSource;
+
+        private final int mLevel;
+
+        private final List<T> mNodes;
+
+        private final String[] mLabels;
+
+        LabelList(ICascadeDataSource<T> source, int level, List<T> nodes) {
+            mSource = source;
+            mLevel = level;
+            mNodes = nodes;
+            mLabels = new String[nodes.size()];
+        }
+
+        @Override
+        public String get(int index) {
+            String label = mLabels[index];
+            if (null == label) {
+                label = mSource.getLabel(mNodes.get(index));
+                mLabels[index] = label;
+            }
+            return label;
+        }
+
+        @Override
+        public int size() {
+            return mLabels.length;
+        }
+
+        @Override
+        public String getWidestText() {
+            return mSource instanceof ICascadeWidestLabel
+                    ? ((ICascadeWidestLabel) mSource).getWidestLabel(mLevel) : null;
+        }
+    }
+
+    /**
+     * Cache key of a child list.
+     */
+    private static final class ChildKey {
+        private final int mLevel;
+
+        private final Object mParent;
+
+        ChildKey(int level, Object parent) {
+            mLevel = level;
+            mParent = parent;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ChildKey)) {
+                return false;
+            }
+            ChildKey other = (ChildKey) obj;
+            return mLevel == other.mLevel && mParent.equals(other.mParent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mLevel, mParent);
+        }
+    }
+}
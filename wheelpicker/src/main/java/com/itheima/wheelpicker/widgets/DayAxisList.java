@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.core.TextMeasurer;
+import java.text.DateFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.AbstractList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Virtual day axis for WheelDateTimePicker.
+ * Each position is a day counted from the start day, labels such as "Mon 14 Oct" are formatted
+ * from the index only when WheelPicker asks for them and kept in a small LRU cache, so the memory
+ * cost does not depend on the length of the range.
+ * The wheel may read the labels from a background thread, for example to build its search index,
+ * so the cache and the scratch calendar are guarded by the list.
+ */
+final class DayAxisList extends AbstractList<String> implements RandomAccess {
+    private static final String LABEL_PATTERN = "EEE d MMM";
+
+    private static final int MAX_DAYS_PER_MONTH = 31;
+
+    private static final int LABEL_CACHE_SIZE = 32;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final SimpleDateFormat mFormat = new SimpleDateFormat(LABEL_PATTERN, Locale.getDefault());
+
+    private final Calendar mStart;
+
+    private final Calendar mScratch;
+
+    private final int mDayCount;
+
+    private final Map<Integer, String> mLabels = new LinkedHashMap<Integer, String>(LABEL_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > LABEL_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * DayAxisList.
+     *
+     * @param start first day of the axis, time of day is ignored
+     * @param end last day of the axis, time of day is ignored
+     */
+    DayAxisList(Date start, Date end) {
+        mStart = Calendar.getInstance();
+        mStart.setTime(start);
+        clearTime(mStart);
+        mScratch = (Calendar) mStart.clone();
+
+        Calendar last = Calendar.getInstance();
+        last.setTime(end);
+        clearTime(last);
+        if (last.before(mStart)) {
+            throw new IllegalArgumentException("End day of the axis can not be before start day!");
+        }
+        mDayCount = daysBetween(mStart, last) + 1;
+    }
+
+    @Override
+    public synchronized String get(int index) {
+        if (index < 0 || index >= mDayCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mDayCount);
+        }
+        String label = mLabels.get(index);
+        if (null == label) {
+            label = mFormat.format(dayAt(index).getTime());
+            mLabels.put(index, label);
+        }
+        return label;
+    }
+
+    @Override
+    public int size() {
+        return mDayCount;
+    }
+
+    /**
+     * Get the day at the given position, time fields are cleared.
+     *
+     * @param index position on the axis
+     * @return calendar of the day, a new instance
+     */
+    synchronized Calendar dayAt(int index) {
+        mScratch.setTimeInMillis(mStart.getTimeInMillis());
+        mScratch.add(Calendar.DAY_OF_MONTH, index);
+        return (Calendar) mScratch.clone();
+    }
+
+    /**
+     * Get the position of the day containing the given date, clamped to the axis.
+     *
+     * @param date any time within the day
+     * @return position on the axis
+     */
+    int positionOf(Date date) {
+        Calendar day = Calendar.getInstance();
+        day.setTime(date);
+        clearTime(day);
+        int position = daysBetween(mStart, day);
+        return Math.max(0, Math.min(position, mDayCount - 1));
+    }
+
+    /**
+     * Build a label that is at least as wide as every label of the axis, so WheelPicker does not
+     * need to measure every day of the range. The widest weekday, day and month names are found
+     * independently and joined as the label pattern joins them.
+     *
+     * @param measurer measures with the paint of the wheel
+     * @return widest label sample
+     */
+    synchronized String getWidestLabelSample(TextMeasurer measurer) {
+        // The names the label pattern formats with, standalone names may differ
+        DateFormatSymbols symbols = mFormat.getDateFormatSymbols();
+        String[] days = new String[MAX_DAYS_PER_MONTH];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = String.valueOf(i + 1);
+        }
+        return widest(measurer, symbols.getShortWeekdays()) + " " + widest(measurer, days) + " "
+                + widest(measurer, symbols.getShortMonths());
+    }
+
+    private static String widest(TextMeasurer measurer, String[] names) {
+        String widest = "";
+        float widestWidth = -1;
+        for (String name : names) {
+            float width = measurer.measureText(name);
+            if (width > widestWidth) {
+                widest = name;
+                widestWidth = width;
+            }
+        }
+        return widest;
+    }
+
+    private static void clearTime(Calendar calendar) {
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+    }
+
+    private static int daysBetween(Calendar from, Calendar to) {
+        // Offsets keep daylight saving shifts from dropping a day
+        long fromMillis = from.getTimeInMillis() + from.get(Calendar.ZONE_OFFSET) + from.get(Calendar.DST_OFFSET);
+        long toMillis = to.getTimeInMillis() + to.get(Calendar.ZONE_OFFSET) + to.get(Calendar.DST_OFFSET);
+        return (int) Math.floorDiv(toMillis - fromMillis, MILLIS_PER_DAY);
+    }
+}
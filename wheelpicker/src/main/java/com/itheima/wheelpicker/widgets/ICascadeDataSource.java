@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import java.util.List;
+
+/**
+ * Tree shown by {@link WheelCascadePicker}, one wheel per level.
+ * Children are only asked for when a wheel needs them, so the tree does not have to be in memory.
+ *
+ * @param <T> node type, used with its level as a cache key so it should implement equals and hashCode
+ */
+public interface ICascadeDataSource<T> {
+    /**
+     * Get the number of levels, which is the number of wheels.
+     *
+     * @return level count, at least 1
+     */
+    int getLevelCount();
+
+    /**
+     * Get the children of a node.
+     *
+     * @param parent parent node, null for the nodes of the first level
+     * @return children, empty if the node is a leaf
+     */
+    List<T> getChildren(T parent);
+
+    /**
+     * Get the text shown for a node.
+     *
+     * @param node node
+     * @return label
+     */
+    String getLabel(T node);
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+/**
+ * Optional interface for an {@link ICascadeDataSource} that knows the widest label of each level.
+ * {@link WheelCascadePicker} then measures only that label, and a label is only asked for when its
+ * item is drawn. Without it every label of a child list is asked for once, when the list is
+ * first shown, to size the wheel.
+ */
+public interface ICascadeWidestLabel {
+    /**
+     * Get the label expected to be drawn widest on a level.
+     *
+     * @param level Level, starting from 0
+     * @return widest label, or null if unknown
+     */
+    String getWidestLabel(int level);
+}
@@ -28,4 +28,53 @@ public interface IWheelAreaPicker {
     String getArea();
 
     void hideArea();
+
+    /**
+     * Whether region data is loaded.
+     * Before that the wheels show a placeholder and the getters return null.
+     *
+     * @return Whether region data is ready
+     */
+    boolean isAreaDataReady();
+
+    /**
+     * Set the listener invoked once region data is ready.
+     *
+     * @param listener Data ready listener
+     */
+    void setOnAreaDataReadyListener(WheelAreaPicker.OnAreaDataReadyListener listener);
+
+    /**
+     * Set the listener invoked when region data could not be loaded.
+     * If loading has already failed the listener is invoked right away.
+     *
+     * @param listener Load failed listener
+     */
+    void setOnLoadFailedListener(WheelAreaPicker.OnLoadFailedListener listener);
+
+    /**
+     * Load region data again on a background thread after it failed to load.
+     * Does nothing while region data is ready or loading.
+     */
+    void reloadAreaData();
+
+    /**
+     * Select province, city and area by position.
+     * If region data is not ready yet the selection is kept and applied once it is.
+     *
+     * @param province Province position
+     * @param city     City position in the province
+     * @param area     Area position in the city
+     */
+    void setSelectedPosition(int province, int city, int area);
+
+    /**
+     * Select province, city and area by name, unknown names select the first item.
+     * If region data is not ready yet the selection is kept and applied once it is.
+     *
+     * @param province Province name
+     * @param city     City name
+     * @param area     Area name
+     */
+    void setSelectedArea(String province, String city, String area);
 }
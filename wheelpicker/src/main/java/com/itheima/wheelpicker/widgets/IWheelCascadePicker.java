@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.WheelPicker;
+import java.util.List;
+
+/**
+ * Interface of WheelCascadePicker.
+ *
+ * @param <T> node type
+ */
+public interface IWheelCascadePicker<T> {
+    /**
+     * Set the tree to show, one wheel is created per level.
+     *
+     * @param source Tree data source
+     */
+    void setDataSource(ICascadeDataSource<T> source);
+
+    /**
+     * Get the tree shown by the picker.
+     *
+     * @return Tree data source, null if none was set
+     */
+    ICascadeDataSource<T> getDataSource();
+
+    /**
+     * Set the listener invoked when the user selects an item on any level.
+     *
+     * @param listener Cascade selected listener
+     */
+    void setOnCascadeSelectedListener(WheelCascadePicker.OnCascadeSelectedListener<T> listener);
+
+    /**
+     * Set how many child lists are kept in memory, least recently used lists are dropped first.
+     *
+     * @param size Maximum number of cached child lists
+     */
+    void setCacheSize(int size);
+
+    /**
+     * Drop all cached child lists and reload the wheels from the data source.
+     * Call it after the tree behind the data source changed.
+     */
+    void notifyDataSetChanged();
+
+    /**
+     * Get the number of levels.
+     *
+     * @return Level count, 0 if no data source was set
+     */
+    int getLevelCount();
+
+    /**
+     * Get the wheel of a level.
+     *
+     * @param level Level index
+     * @return Wheel
+     */
+    WheelPicker getWheelPicker(int level);
+
+    /**
+     * Get the selected node of every level.
+     *
+     * @return Selected nodes, null for levels without nodes
+     */
+    List<T> getSelectedPath();
+
+    /**
+     * Get the selected position of every level.
+     *
+     * @return Selected positions
+     */
+    int[] getSelectedPositions();
+
+    /**
+     * Select a position on each level, missing levels select their first node.
+     *
+     * @param positions Positions from the first level down, clamped to the child count
+     */
+    void setSelectedPositions(int... positions);
+}
@@ -16,6 +16,7 @@
 
 package com.itheima.wheelpicker.widgets;
 
+import com.itheima.wheelpicker.chrono.WheelChronology;
 import java.util.Date;
 import ohos.agp.components.Text;
 
@@ -50,4 +51,20 @@ public interface IWheelDatePicker {
     Text getTextViewMonth();
 
     Text getTextViewDay();
+
+    /**
+     * Get the calendar system of the date wheels.
+     *
+     * @return Calendar system
+     */
+    WheelChronology getChronology();
+
+    /**
+     * Set the calendar system of the date wheels.
+     * Month values are then month ordinals of the calendar system, the year range is clamped to
+     * the years it supports and the current date is kept.
+     *
+     * @param chronology Calendar system
+     */
+    void setChronology(WheelChronology chronology);
 }
\ No newline at end of file
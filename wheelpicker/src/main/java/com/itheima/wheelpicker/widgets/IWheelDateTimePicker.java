@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.WheelPicker;
+import java.util.Date;
+
+/**
+ * Interface of WheelDateTimePicker.
+ */
+public interface IWheelDateTimePicker {
+    /**
+     * Set the listener invoked when day, hour or minute is selected.
+     *
+     * @param listener Date time selected listener
+     */
+    void setOnDateTimeSelectedListener(WheelDateTimePicker.OnDateTimeSelectedListener listener);
+
+    /**
+     * Set the range of the day wheel.
+     * Days are produced from their index on demand, so the range may span many years.
+     *
+     * @param start First day of the range
+     * @param end   Last day of the range
+     */
+    void setDateRange(Date start, Date end);
+
+    /**
+     * Get the date and time currently shown by the wheels.
+     *
+     * @return Current date time
+     */
+    Date getCurrentDateTime();
+
+    /**
+     * Set the selected date and time, the day is clamped to the range.
+     *
+     * @param date Selected date time
+     */
+    void setSelectedDateTime(Date date);
+
+    /**
+     * Get the day wheel.
+     *
+     * @return Day wheel
+     */
+    WheelPicker getWheelDayPicker();
+
+    /**
+     * Get the hour wheel.
+     *
+     * @return Hour wheel
+     */
+    WheelPicker getWheelHourPicker();
+
+    /**
+     * Get the minute wheel.
+     *
+     * @return Minute wheel
+     */
+    WheelPicker getWheelMinutePicker();
+}
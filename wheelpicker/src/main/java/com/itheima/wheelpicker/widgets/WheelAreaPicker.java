@@ -17,20 +17,21 @@
 package com.itheima.wheelpicker.widgets;
 
 
+import com.itheima.wheelpicker.DiffStrategy;
+import com.itheima.wheelpicker.ResourceTable;
 import com.itheima.wheelpicker.WheelPicker;
-import com.itheima.wheelpicker.model.City;
-import com.itheima.wheelpicker.model.Province;
+import com.itheima.wheelpicker.region.RegionData;
+import com.itheima.wheelpicker.region.RegionRepository;
+import com.itheima.wheelpicker.util.AttrUtil;
 import com.itheima.wheelpicker.util.LogUtil;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import ohos.agp.colors.RgbPalette;
 import ohos.agp.components.AttrSet;
 import ohos.agp.components.DirectionalLayout;
 import ohos.app.Context;
+import ohos.eventhandler.EventHandler;
+import ohos.eventhandler.EventRunner;
 
 
 /**
@@ -42,11 +43,39 @@ public class WheelAreaPicker extends DirectionalLayout implements IWheelAreaPick
     private static final String SELECTED_ITEM_COLOR = "#353535";
     private static final int PROVINCE_INITIAL_INDEX = 0;
     private static final String TAG = WheelAreaPicker.class.getSimpleName();
+    /**
+     * Single item shown by every wheel until the region data is ready.
+     */
+    private static final List<String> PLACEHOLDER = Collections.singletonList("...");
+
+    /**
+     * Background runner shared by all pickers loading region data asynchronously.
+     */
+    private static EventHandler sLoadHandler;
+
+    private final EventHandler mMainHandler = new EventHandler(EventRunner.getMainEventRunner());
+
+    private final Context mContext;
+
+    private RegionData mRegionData;
+
+    /**
+     * Why the region data could not be loaded, null unless the last load failed.
+     */
+    private Throwable mLoadError;
+
+    private boolean isLoading;
 
-    private List<Province> mProvinceList;
-    private List<City> mCityList;
-    private List<String> mProvinceName;
-    private List<String> mCityName;
+    private int mProvinceIndex;
+
+    /**
+     * Selection requested before the region data was ready, applied once it is.
+     */
+    private Runnable mPendingSelection;
+
+    private OnAreaDataReadyListener mOnAreaDataReadyListener;
+
+    private OnLoadFailedListener mOnLoadFailedListener;
 
     private LayoutConfig layoutConfig;
 
@@ -56,47 +85,90 @@ public class WheelAreaPicker extends DirectionalLayout implements IWheelAreaPick
 
     /**
      * WheelAreaPicker class for WheelPicker.
+     * Region data is shared by all area pickers through {@link RegionRepository}. The first picker
+     * loads it in the constructor, or on a background thread when the wheel_area_async_load
+     * attribute is true.
      *
      * @param context context
      * @param attrs attribute set
      */
     public WheelAreaPicker(Context context, AttrSet attrs) {
         super(context, attrs);
+        mContext = context;
 
         initLayoutParams();
 
         initView(context);
 
-        try {
-            mProvinceList = getJsonDataFromAssets(context);
-        } catch (IOException e) {
-            LogUtil.error(TAG, "loadRegionsFromFile : IOException");
+        addListenerToWheelPicker();
+
+        boolean isAsyncLoad = AttrUtil.getBooleanValue(attrs, AttrUtil
+                .getString(context, ResourceTable.String_wheelAreaAsyncLoad), false);
+        RegionData shared = RegionRepository.peek();
+        if (null != shared) {
+            onRegionDataLoaded(shared);
+        } else if (isAsyncLoad) {
+            loadRegionDataAsync();
+        } else {
+            onRegionDataLoaded(RegionRepository.obtain(context));
         }
+    }
 
-        obtainProvinceData();
+    private void loadRegionDataAsync() {
+        isLoading = true;
+        getLoadHandler().postTask(() -> {
+            RegionData regionData = null;
+            RuntimeException error = null;
+            try {
+                regionData = RegionRepository.obtain(mContext);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+            final RegionData loaded = regionData;
+            final RuntimeException cause = error;
+            mMainHandler.postTask(() -> {
+                if (null != cause) {
+                    onRegionDataFailed(cause);
+                } else {
+                    onRegionDataLoaded(loaded);
+                }
+            });
+        });
+    }
 
-        addListenerToWheelPicker();
+    private static synchronized EventHandler getLoadHandler() {
+        if (null == sLoadHandler) {
+            sLoadHandler = new EventHandler(EventRunner.create());
+        }
+        return sLoadHandler;
+    }
+
+    private void onRegionDataLoaded(RegionData regionData) {
+        if (null == regionData) {
+            onRegionDataFailed(new IllegalStateException("Region data is not available"));
+            return;
+        }
+        isLoading = false;
+        mLoadError = null;
+        mRegionData = regionData;
+        obtainProvinceData();
+        if (null != mPendingSelection) {
+            mPendingSelection.run();
+            mPendingSelection = null;
+        }
+        if (null != mOnAreaDataReadyListener) {
+            mOnAreaDataReadyListener.onAreaDataReady(this);
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Province> getJsonDataFromAssets(Context context) throws IOException {
-        ObjectInputStream objectInputStream = null;
-        String path = "resources/rawfile/" + "RegionJsonData.dat";
-        List<Province> provinceList = null;
-        try (
-            InputStream inputStream = context.getResourceManager().getRawFileEntry(path).openRawFile()
-        ) {
-            objectInputStream = new ObjectInputStream(inputStream);
-            provinceList = (List<Province>) objectInputStream.readObject();
-
-        } catch (FileNotFoundException exception) {
-            LogUtil.error(TAG, "loadRegionsFromFile : FileNotFoundException");
-        } catch (IOException exception) {
-            LogUtil.error(TAG, "loadRegionsFromFile : IOException");
-        } catch (ClassNotFoundException e) {
-            LogUtil.error(TAG, "loadRegionsFromFile : ClassNotFoundException");
+    private void onRegionDataFailed(Throwable cause) {
+        // Keep the placeholders rather than crash the screen hosting the picker
+        LogUtil.error(TAG, "Region data is not available : " + cause.getMessage());
+        isLoading = false;
+        mLoadError = cause;
+        if (null != mOnLoadFailedListener) {
+            mOnLoadFailedListener.onLoadFailed(this, cause);
         }
-        return provinceList;
     }
 
     private void initLayoutParams() {
@@ -108,9 +180,6 @@ public class WheelAreaPicker extends DirectionalLayout implements IWheelAreaPick
     private void initView(Context context) {
         setOrientation(HORIZONTAL);
 
-        mProvinceName = new ArrayList<>();
-        mCityName = new ArrayList<>();
-
         mWPProvince = new WheelPicker(context);
         mWPCity = new WheelPicker(context);
         mWPArea = new WheelPicker(context);
@@ -125,60 +194,132 @@ public class WheelAreaPicker extends DirectionalLayout implements IWheelAreaPick
         wheelPicker.setItemTextSize(dip2px(context, ITEM_TEXT_SIZE));
         wheelPicker.setSelectedItemTextColor(RgbPalette.parse(SELECTED_ITEM_COLOR));
         wheelPicker.setCurved(true);
+        wheelPicker.setData(PLACEHOLDER);
         wheelPicker.setLayoutConfig(layoutConfig);
         addComponent(wheelPicker);
     }
 
     private void obtainProvinceData() {
-        for (Province province : mProvinceList) {
-            mProvinceName.add(province.getName());
-        }
-        mWPProvince.setData(mProvinceName);
+        mWPProvince.setData(mRegionData.getProvinceNames());
         setCityAndAreaData(PROVINCE_INITIAL_INDEX);
     }
 
     private void addListenerToWheelPicker() {
         mWPProvince.setOnItemSelectedListener((picker, data, position) -> {
-            //Get a collection of all cities in the province
-            mCityList = mProvinceList.get(position).getCity();
-            setCityAndAreaData(position);
+            if (isAreaDataReady()) {
+                setCityAndAreaData(position);
+            }
         });
 
-        mWPCity.setOnItemSelectedListener((picker, data, position) ->
-                mWPArea.setData(mCityList.get(position).getArea())
-        );
+        mWPCity.setOnItemSelectedListener((picker, data, position) -> {
+            if (isAreaDataReady()) {
+                mWPArea.setData(mRegionData.getAreaNames(mProvinceIndex, position), DiffStrategy.DEFAULT);
+            }
+        });
     }
 
     private void setCityAndAreaData(int position) {
-        //Get a collection of all cities in the province
-        mCityList = mProvinceList.get(position).getCity();
-        //Get the names of all cities
-        //Reset the previous city collection data
-        mCityName.clear();
-        for (City city : mCityList) {
-            mCityName.add(city.getName());
+        mProvinceIndex = position;
+        //Name lists are cached by the region data, switching province only swaps the lists.
+        //The diff keeps the selected city and area when the new province has them
+        mWPCity.setData(mRegionData.getCityNames(position), DiffStrategy.DEFAULT);
+        int cityIndex = clamp(mWPCity.getCurrentItemPosition(), mRegionData.getCityCount(position));
+        mWPArea.setData(mRegionData.getAreaNames(position, cityIndex), DiffStrategy.DEFAULT);
+    }
+
+    private void applySelectedPosition(int province, int city, int area) {
+        int provinceIndex = clamp(province, mRegionData.getProvinceCount());
+        int cityIndex = clamp(city, mRegionData.getCityCount(provinceIndex));
+        mProvinceIndex = provinceIndex;
+        mWPProvince.helperSetSelectedItemPosition(provinceIndex, false);
+        mWPCity.setData(mRegionData.getCityNames(provinceIndex));
+        mWPCity.helperSetSelectedItemPosition(cityIndex, false);
+        mWPArea.setData(mRegionData.getAreaNames(provinceIndex, cityIndex));
+        mWPArea.helperSetSelectedItemPosition(clamp(area, mRegionData.getAreaCount(provinceIndex, cityIndex)), false);
+    }
+
+    private static int clamp(int position, int size) {
+        return Math.max(0, Math.min(position, size - 1));
+    }
+
+    private static int indexOf(List<String> names, String name) {
+        return Math.max(names.indexOf(name), 0);
+    }
+
+    @Override
+    public boolean isAreaDataReady() {
+        return null != mRegionData;
+    }
+
+    @Override
+    public void setOnAreaDataReadyListener(OnAreaDataReadyListener listener) {
+        mOnAreaDataReadyListener = listener;
+    }
+
+    @Override
+    public void setOnLoadFailedListener(OnLoadFailedListener listener) {
+        mOnLoadFailedListener = listener;
+        if (null != listener && null != mLoadError && !isLoading) {
+            listener.onLoadFailed(this, mLoadError);
+        }
+    }
+
+    @Override
+    public void reloadAreaData() {
+        if (isAreaDataReady() || isLoading) {
+            return;
+        }
+        mLoadError = null;
+        loadRegionDataAsync();
+    }
+
+    @Override
+    public void setSelectedPosition(int province, int city, int area) {
+        if (isAreaDataReady()) {
+            applySelectedPosition(province, city, area);
+        } else {
+            mPendingSelection = () -> applySelectedPosition(province, city, area);
+        }
+    }
+
+    @Override
+    public void setSelectedArea(String province, String city, String area) {
+        Runnable selection = () -> {
+            int provinceIndex = indexOf(mRegionData.getProvinceNames(), province);
+            int cityIndex = indexOf(mRegionData.getCityNames(provinceIndex), city);
+            int areaIndex = indexOf(mRegionData.getAreaNames(provinceIndex, cityIndex), area);
+            applySelectedPosition(provinceIndex, cityIndex, areaIndex);
+        };
+        if (isAreaDataReady()) {
+            selection.run();
+        } else {
+            mPendingSelection = selection;
         }
-        mWPCity.setData(mCityName);
-        mWPCity.setSelectedItemPosition(0);
-        //Get the name of the district corresponding to the first city
-        //Reset the data of the previous city collection
-        mWPArea.setData(mCityList.get(0).getArea());
-        mWPArea.setSelectedItemPosition(0);
     }
 
     @Override
     public String getProvince() {
-        return mProvinceList.get(mWPProvince.getCurrentItemPosition()).getName();
+        if (!isAreaDataReady()) {
+            return null;
+        }
+        return mRegionData.getProvinceName(mProvinceIndex);
     }
 
     @Override
     public String getCity() {
-        return mCityList.get(mWPCity.getCurrentItemPosition()).getName();
+        if (!isAreaDataReady()) {
+            return null;
+        }
+        return mRegionData.getCityName(mProvinceIndex, mWPCity.getCurrentItemPosition());
     }
 
     @Override
     public String getArea() {
-        return mCityList.get(mWPCity.getCurrentItemPosition()).getArea().get(mWPArea.getCurrentItemPosition());
+        if (!isAreaDataReady()) {
+            return null;
+        }
+        return mRegionData.getAreaName(mProvinceIndex, mWPCity.getCurrentItemPosition(),
+                mWPArea.getCurrentItemPosition());
     }
 
     @Override
@@ -191,4 +332,29 @@ public class WheelAreaPicker extends DirectionalLayout implements IWheelAreaPick
         return (int) (dpValue * scale + 0.5f);
     }
 
+    /**
+     * OnAreaDataReadyListener.
+     */
+    public interface OnAreaDataReadyListener {
+        /**
+         * Invoked on the main thread once region data is loaded and shown by the wheels.
+         *
+         * @param picker Area picker
+         */
+        void onAreaDataReady(WheelAreaPicker picker);
+    }
+
+    /**
+     * OnLoadFailedListener.
+     */
+    public interface OnLoadFailedListener {
+        /**
+         * Invoked on the main thread when region data could not be loaded, the wheels keep showing
+         * the placeholder until {@link WheelAreaPicker#reloadAreaData()} succeeds.
+         *
+         * @param picker Area picker
+         * @param cause Why loading failed
+         */
+        void onLoadFailed(WheelAreaPicker picker, Throwable cause);
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.widgets.CascadeLevels.Level;
+import java.util.ArrayList;
+import java.util.List;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.DirectionalLayout;
+import ohos.app.Context;
+
+/**
+ * Picker made of linked wheels over a tree, such as province, city and area or
+ * category, subcategory and item.
+ * When a level is selected only the levels below it are reloaded. Child lists are fetched from
+ * the {@link ICascadeDataSource} on demand and kept in a bounded cache. Labels are only asked for
+ * when drawn if the source also implements {@link ICascadeWidestLabel}.
+ *
+ * @param <T> node type
+ */
+public class WheelCascadePicker<T> extends DirectionalLayout implements IWheelCascadePicker<T> {
+    private static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Context mContext;
+
+    private final AttrSet mAttrs;
+
+    private final List<WheelPicker> mWheels = new ArrayList<>();
+
+    private ICascadeDataSource<T> mSource;
+
+    /**
+     * Nodes currently shown by each wheel.
+     */
+    private Level<T>[] mLevels;
+
+    private CascadeLevels<T> mCascadeLevels;
+
+    private int mCacheSize = DEFAULT_CACHE_SIZE;
+
+    private OnCascadeSelectedListener<T> mListener;
+
+    /**
+     * WheelCascadePicker class for WheelPicker.
+     * Wheels are created by {@link #setDataSource(ICascadeDataSource)}.
+     *
+     * @param context context
+     * @param attrs attribute set, also applied to every wheel
+     */
+    public WheelCascadePicker(Context context, AttrSet attrs) {
+        super(context, attrs);
+        mContext = context;
+        mAttrs = attrs;
+        setOrientation(HORIZONTAL);
+    }
+
+    @Override
+    public void setDataSource(ICascadeDataSource<T> source) {
+        if (null == source) {
+            throw new NullPointerException("WheelCascadePicker's data source can not be null!");
+        }
+        int levelCount = source.getLevelCount();
+        if (levelCount < 1) {
+            throw new IllegalArgumentException("Level count must be at least 1, but current is " + levelCount);
+        }
+        mSource = source;
+        mCascadeLevels = new CascadeLevels<>(source, mCacheSize);
+        if (mWheels.size() != levelCount) {
+            initWheels(levelCount);
+        }
+        reload();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initWheels(int levelCount) {
+        removeAllComponents();
+        mWheels.clear();
+        mLevels = new Level[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            final int level = i;
+            WheelPicker wheelPicker = new WheelPicker(mContext, mAttrs);
+            LayoutConfig layoutConfig = new LayoutConfig();
+            layoutConfig.width = 0;
+            layoutConfig.weight = 1;
+            wheelPicker.setLayoutConfig(layoutConfig);
+            wheelPicker.setOnItemSelectedListener((picker, data, position) -> onLevelSelected(level));
+            mWheels.add(wheelPicker);
+            addComponent(wheelPicker);
+        }
+    }
+
+    private void reload() {
+        showLevel(0, mCascadeLevels.getRoot(), 0);
+        updateLevelsBelow(0);
+    }
+
+    private void onLevelSelected(int level) {
+        updateLevelsBelow(level);
+        if (null != mListener) {
+            mListener.onCascadeSelected(this, level, getSelectedPath());
+        }
+    }
+
+    private void updateLevelsBelow(int level) {
+        for (int i = level + 1; i < mWheels.size(); i++) {
+            showLevel(i, mCascadeLevels.getChildren(i, getSelectedNode(i - 1)), 0);
+        }
+    }
+
+    private void showLevel(int level, Level<T> nodes, int position) {
+        mLevels[level] = nodes;
+        WheelPicker wheelPicker = mWheels.get(level);
+        wheelPicker.setData(nodes.mLabels);
+        wheelPicker.helperSetSelectedItemPosition(position, false);
+    }
+
+    private T getSelectedNode(int level) {
+        List<T> nodes = mLevels[level].mNodes;
+        int position = mWheels.get(level).getCurrentItemPosition();
+        return position >= 0 && position < nodes.size() ? nodes.get(position) : null;
+    }
+
+    @Override
+    public ICascadeDataSource<T> getDataSource() {
+        return mSource;
+    }
+
+    @Override
+    public void setOnCascadeSelectedListener(OnCascadeSelectedListener<T> listener) {
+        mListener = listener;
+    }
+
+    @Override
+    public void setCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Cache size can not be negative, but current is " + size);
+        }
+        mCacheSize = size;
+        if (null != mCascadeLevels) {
+            mCascadeLevels.setCacheSize(size);
+        }
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+        if (null == mSource) {
+            return;
+        }
+        int[] positions = getSelectedPositions();
+        mCascadeLevels.clear();
+        setSelectedPositions(positions);
+    }
+
+    @Override
+    public int getLevelCount() {
+        return mWheels.size();
+    }
+
+    @Override
+    public WheelPicker getWheelPicker(int level) {
+        return mWheels.get(level);
+    }
+
+    @Override
+    public List<T> getSelectedPath() {
+        List<T> path = new ArrayList<>(mWheels.size());
+        for (int i = 0; i < mWheels.size(); i++) {
+            path.add(getSelectedNode(i));
+        }
+        return path;
+    }
+
+    @Override
+    public int[] getSelectedPositions() {
+        int[] positions = new int[mWheels.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = mWheels.get(i).getCurrentItemPosition();
+        }
+        return positions;
+    }
+
+    @Override
+    public void setSelectedPositions(int... positions) {
+        if (null == mSource) {
+            return;
+        }
+        for (int i = 0; i < mWheels.size(); i++) {
+            Level<T> nodes = i == 0 ? mCascadeLevels.getRoot() : mCascadeLevels.getChildren(i, getSelectedNode(i - 1));
+            showLevel(i, nodes, i < positions.length ? positions[i] : 0);
+        }
+    }
+
+    /**
+     * OnCascadeSelectedListener.
+     *
+     * @param <T> node type
+     */
+    public interface OnCascadeSelectedListener<T> {
+        /**
+         * Invoked after the user selected an item and the levels below were reloaded.
+         *
+         * @param picker Cascade picker
+         * @param level Level the user scrolled
+         * @param path Selected node of every level, null for levels without nodes
+         */
+        void onCascadeSelected(WheelCascadePicker<T> picker, int level, List<T> path);
+    }
+}
@@ -17,16 +17,20 @@
 package com.itheima.wheelpicker.widgets;
 
 
+import com.itheima.wheelpicker.DiffStrategy;
 import com.itheima.wheelpicker.IDebug;
 import com.itheima.wheelpicker.IWheelPicker;
 import com.itheima.wheelpicker.ResourceTable;
+import com.itheima.wheelpicker.WheelLatencyTrace;
+import com.itheima.wheelpicker.WheelMetrics;
 import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.WheelStyle;
+import com.itheima.wheelpicker.chrono.GregorianChronology;
+import com.itheima.wheelpicker.chrono.WheelChronology;
+import com.itheima.wheelpicker.search.WheelSearchIndex;
 import com.itheima.wheelpicker.util.LogUtil;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 import ohos.agp.components.AttrSet;
 import ohos.agp.components.DirectionalLayout;
 import ohos.agp.components.LayoutScatter;
@@ -41,8 +45,8 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
         IDebug, IWheelPicker, IWheelDatePicker, IWheelYearPicker, IWheelMonthPicker,
         IWheelDayPicker {
     private static final String TAG = WheelDatePicker.class.getSimpleName();
-    private final SimpleDateFormat sdf =
-            new SimpleDateFormat("yyyy-M-d", Locale.getDefault());
+
+    private WheelChronology mChronology = GregorianChronology.getInstance();
 
     private WheelYearPicker mPickerYear;
     private WheelMonthPicker mPickerMonth;
@@ -50,6 +54,8 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
 
     private OnDateSelectedListener mListener;
 
+    private WheelStyle mStyle;
+
     private Text mTVYear;
     private Text mTVMonth;
     private Text mTVDay;
@@ -110,19 +116,17 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
     public void onItemSelected(WheelPicker picker, Object data, int position) {
         if (picker.getId() == ResourceTable.Id_wheel_date_picker_year) {
             mYear = (int) data;
-            mPickerDay.setYear(mYear);
+            // The month count may change with the year in lunisolar calendars
+            mPickerMonth.setYear(mYear);
+            mMonth = mPickerMonth.getCurrentMonth();
+            mPickerDay.setYearAndMonth(mYear, mMonth);
         } else if (picker.getId() == ResourceTable.Id_wheel_date_picker_month) {
-            mMonth = (int) data;
+            mMonth = position + 1;
             mPickerDay.setMonth(mMonth);
         }
         mDay = mPickerDay.getCurrentDay();
-        String date = mYear + "-" + mMonth + "-" + mDay;
         if (null != mListener) {
-            try {
-                mListener.onDateSelected(this, sdf.parse(date));
-            } catch (ParseException e) {
-                LogUtil.error(TAG,  "Date Parse Exception");
-            }
+            mListener.onDateSelected(this, mChronology.toDate(mYear, mMonth, mDay));
         }
     }
 
@@ -133,6 +137,59 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
         mPickerDay.setDebug(isDebug);
     }
 
+    @Override
+    public void setMetricsEnabled(boolean isEnabled) {
+        mPickerYear.setMetricsEnabled(isEnabled);
+        mPickerMonth.setMetricsEnabled(isEnabled);
+        mPickerDay.setMetricsEnabled(isEnabled);
+    }
+
+    @Override
+    public boolean isMetricsEnabled() {
+        return mPickerYear.isMetricsEnabled() && mPickerMonth.isMetricsEnabled()
+                && mPickerDay.isMetricsEnabled();
+    }
+
+    /**
+     * getMetrics.
+     * (the metrics of the year, month and day wheels added up, a new instance on every call)
+     */
+    @Override
+    public WheelMetrics getMetrics() {
+        WheelMetrics metrics = new WheelMetrics();
+        metrics.add(mPickerYear.getMetrics());
+        metrics.add(mPickerMonth.getMetrics());
+        metrics.add(mPickerDay.getMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void resetMetrics() {
+        mPickerYear.resetMetrics();
+        mPickerMonth.resetMetrics();
+        mPickerDay.resetMetrics();
+    }
+
+    @Override
+    public void setLatencyTracingEnabled(boolean isEnabled) {
+        mPickerYear.setLatencyTracingEnabled(isEnabled);
+        mPickerMonth.setLatencyTracingEnabled(isEnabled);
+        mPickerDay.setLatencyTracingEnabled(isEnabled);
+    }
+
+    /**
+     * getLatencyTrace.
+     * (the samples of the year, month and day wheels together, a new instance on every call)
+     */
+    @Override
+    public WheelLatencyTrace getLatencyTrace() {
+        WheelLatencyTrace trace = new WheelLatencyTrace(3 * WheelLatencyTrace.DEFAULT_CAPACITY);
+        trace.add(mPickerYear.getLatencyTrace());
+        trace.add(mPickerMonth.getLatencyTrace());
+        trace.add(mPickerDay.getLatencyTrace());
+        return trace;
+    }
+
     @Override
     public int getVisibleItemCount() {
         if (mPickerYear.getVisibleItemCount() == mPickerMonth.getVisibleItemCount()
@@ -221,6 +278,36 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
                 + S_2);
     }
 
+    /**
+     * postData.
+     * (don't need to set data source for WheelDatePicker)
+     */
+    @Override
+    public void postData(List data) {
+        throw new UnsupportedOperationException("You don't need to set data source for"
+                + S_2);
+    }
+
+    /**
+     * postSelectedItemPosition.
+     * (can not set position of selected item for WheelDatePicker)
+     */
+    @Override
+    public void postSelectedItemPosition(int position) {
+        throw new UnsupportedOperationException("You can not set position of selected item for"
+                + S_2);
+    }
+
+    /**
+     * setData.
+     * (don't need to set data source for WheelDatePicker)
+     */
+    @Override
+    public void setData(List data, DiffStrategy strategy) {
+        throw new UnsupportedOperationException("You don't need to set data source for"
+                + S_2);
+    }
+
     /**
      * setSameWidth.
      * (don't need to set same width for WheelDatePicker)
@@ -500,6 +587,83 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
         mPickerDay.setTypeface(tf);
     }
 
+    /**
+     * setWheelStyle.
+     * (the style is applied to the year, month and day wheels, each with one layout pass)
+     */
+    @Override
+    public void setWheelStyle(WheelStyle style) {
+        style.applyTo(mPickerYear, mPickerMonth, mPickerDay);
+        mStyle = style;
+    }
+
+    @Override
+    public WheelStyle getWheelStyle() {
+        return mStyle;
+    }
+
+    @Override
+    public void beginUpdate() {
+        mPickerYear.beginUpdate();
+        mPickerMonth.beginUpdate();
+        mPickerDay.beginUpdate();
+    }
+
+    @Override
+    public void commit() {
+        mPickerYear.commit();
+        mPickerMonth.commit();
+        mPickerDay.commit();
+    }
+
+    /**
+     * getPositionOf.
+     * (can not get position of an item from WheelDatePicker)
+     */
+    @Override
+    public int getPositionOf(Object value) {
+        throw new UnsupportedOperationException("You can not get position of an item from " + S_2);
+    }
+
+    /**
+     * setSelectedItem.
+     * (can not set selected item for WheelDatePicker, select on its year, month or day picker instead)
+     */
+    @Override
+    public void setSelectedItem(Object value) {
+        throw new UnsupportedOperationException("You can not set selected item for " + S_2);
+    }
+
+    /**
+     * scrollToMatch.
+     * (can not search WheelDatePicker, search its year, month or day picker instead)
+     */
+    @Override
+    public void scrollToMatch(String query) {
+        throw new UnsupportedOperationException("You can not search " + S_2);
+    }
+
+    /**
+     * getSearchIndex.
+     * (can not search WheelDatePicker, search its year, month or day picker instead)
+     */
+    @Override
+    public WheelSearchIndex getSearchIndex() {
+        throw new UnsupportedOperationException("You can not search " + S_2);
+    }
+
+    @Override
+    public void setSearchPinyinInitials(boolean hasPinyinInitials) {
+        mPickerYear.setSearchPinyinInitials(hasPinyinInitials);
+        mPickerMonth.setSearchPinyinInitials(hasPinyinInitials);
+        mPickerDay.setSearchPinyinInitials(hasPinyinInitials);
+    }
+
+    @Override
+    public boolean hasSearchPinyinInitials() {
+        return mPickerYear.hasSearchPinyinInitials();
+    }
+
     @Override
     public void setOnDateSelectedListener(OnDateSelectedListener listener) {
         mListener = listener;
@@ -507,13 +671,34 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
 
     @Override
     public Date getCurrentDate() {
-        String date = mYear + "-" + mMonth + "-" + mDay;
-        try {
-            return sdf.parse(date);
-        } catch (ParseException e) {
-            LogUtil.error(TAG,  "Date Parse Exception");
+        return mChronology.toDate(mYear, mMonth, mDay);
+    }
+
+    @Override
+    public WheelChronology getChronology() {
+        return mChronology;
+    }
+
+    @Override
+    public void setChronology(WheelChronology chronology) {
+        if (null == chronology) {
+            throw new NullPointerException("Chronology can not be null!");
         }
-        return null;
+        Date current = getCurrentDate();
+        mChronology = chronology;
+
+        int start = Math.max(mPickerYear.getYearStart(), chronology.getMinYear());
+        int end = Math.min(mPickerYear.getYearEnd(), chronology.getMaxYear());
+        mPickerYear.setYearFrame(start, end);
+        setMaximumWidthTextYear();
+        mPickerMonth.setChronology(chronology);
+        mPickerDay.setChronology(chronology);
+
+        // Keep showing the same day, expressed in the new calendar system
+        int[] date = chronology.fromDate(current);
+        int year = Math.max(start, Math.min(date[0], end));
+        setYearAndMonth(year, year == date[0] ? date[1] : 1);
+        setSelectedDay(year == date[0] ? date[2] : 1);
     }
 
     @Override
@@ -610,7 +795,10 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
     public void setSelectedYear(int year) {
         mYear = year;
         mPickerYear.setSelectedYear(year);
-        mPickerDay.setYear(year);
+        // The month wheel keeps the month by identity, its ordinal may move with the leap month
+        mPickerMonth.setYear(year);
+        mMonth = mPickerMonth.getCurrentMonth();
+        mPickerDay.setYearAndMonth(year, mMonth);
     }
 
     @Override
@@ -656,6 +844,7 @@ public class WheelDatePicker extends DirectionalLayout implements WheelPicker.On
         mYear = year;
         mMonth = month;
         mPickerYear.setSelectedYear(year);
+        mPickerMonth.setYear(year);
         mPickerMonth.setSelectedMonth(month);
         mPickerDay.setYearAndMonth(year, month);
     }
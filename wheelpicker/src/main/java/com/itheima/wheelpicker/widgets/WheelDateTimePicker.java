@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.WheelPicker;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.DirectionalLayout;
+import ohos.agp.render.Paint;
+import ohos.app.Context;
+
+/**
+ * Date and time picker made of a day wheel, an hour wheel and a minute wheel.
+ * The day wheel is a virtual axis, see {@link DayAxisList}.
+ */
+public class WheelDateTimePicker extends DirectionalLayout implements IWheelDateTimePicker,
+        WheelPicker.OnItemSelectedListener {
+    private static final int DEFAULT_RANGE_YEARS = 10;
+
+    private static final List<String> HOURS = buildTwoDigitLabels(24);
+    private static final List<String> MINUTES = buildTwoDigitLabels(60);
+
+    private DayAxisList mDays;
+
+    private WheelPicker mPickerDay;
+    private WheelPicker mPickerHour;
+    private WheelPicker mPickerMinute;
+
+    private OnDateTimeSelectedListener mListener;
+
+    /**
+     * WheelDateTimePicker class for WheelPicker.
+     * The day wheel covers {@value #DEFAULT_RANGE_YEARS} years from today until
+     * {@link #setDateRange(Date, Date)} is called.
+     *
+     * @param context context
+     * @param attrs attribute set, also applied to the three wheels
+     */
+    public WheelDateTimePicker(Context context, AttrSet attrs) {
+        super(context, attrs);
+        setOrientation(HORIZONTAL);
+
+        mPickerDay = initWheelPicker(context, attrs, 2);
+        mPickerHour = initWheelPicker(context, attrs, 1);
+        mPickerMinute = initWheelPicker(context, attrs, 1);
+
+        mPickerHour.setSameWidth(true);
+        mPickerHour.setData(HOURS);
+        mPickerMinute.setSameWidth(true);
+        mPickerMinute.setData(MINUTES);
+
+        Calendar end = Calendar.getInstance();
+        Date today = end.getTime();
+        end.add(Calendar.YEAR, DEFAULT_RANGE_YEARS);
+        setDateRange(today, end.getTime());
+        setSelectedDateTime(today);
+    }
+
+    private WheelPicker initWheelPicker(Context context, AttrSet attrs, float weight) {
+        WheelPicker wheelPicker = new WheelPicker(context, attrs);
+        LayoutConfig layoutConfig = new LayoutConfig();
+        layoutConfig.width = 0;
+        layoutConfig.weight = weight;
+        wheelPicker.setLayoutConfig(layoutConfig);
+        wheelPicker.setOnItemSelectedListener(this);
+        addComponent(wheelPicker);
+        return wheelPicker;
+    }
+
+    private static List<String> buildTwoDigitLabels(int count) {
+        List<String> labels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            labels.add(String.format(Locale.ENGLISH, "%02d", i));
+        }
+        return Collections.unmodifiableList(labels);
+    }
+
+    @Override
+    public void onItemSelected(WheelPicker picker, Object data, int position) {
+        if (null != mListener) {
+            mListener.onDateTimeSelected(this, getCurrentDateTime());
+        }
+    }
+
+    @Override
+    public void setOnDateTimeSelectedListener(OnDateTimeSelectedListener listener) {
+        mListener = listener;
+    }
+
+    @Override
+    public void setDateRange(Date start, Date end) {
+        Date current = null == mDays ? null : getCurrentDateTime();
+        mDays = new DayAxisList(start, end);
+
+        // The axis may span years, never let WheelPicker measure every label
+        Paint paint = new Paint();
+        paint.setTextSize(mPickerDay.getItemTextSize());
+        paint.setFont(mPickerDay.getTypeface());
+        mPickerDay.setMaximumWidthText(mDays.getWidestLabelSample(paint::measureText));
+        mPickerDay.setData(mDays);
+        if (null != current) {
+            mPickerDay.setSelectedItemPosition(mDays.positionOf(current));
+        }
+    }
+
+    @Override
+    public Date getCurrentDateTime() {
+        Calendar calendar = mDays.dayAt(mPickerDay.getCurrentItemPosition());
+        calendar.set(Calendar.HOUR_OF_DAY, mPickerHour.getCurrentItemPosition());
+        calendar.set(Calendar.MINUTE, mPickerMinute.getCurrentItemPosition());
+        return calendar.getTime();
+    }
+
+    @Override
+    public void setSelectedDateTime(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        mPickerDay.setSelectedItemPosition(mDays.positionOf(date));
+        mPickerHour.setSelectedItemPosition(calendar.get(Calendar.HOUR_OF_DAY));
+        mPickerMinute.setSelectedItemPosition(calendar.get(Calendar.MINUTE));
+    }
+
+    @Override
+    public WheelPicker getWheelDayPicker() {
+        return mPickerDay;
+    }
+
+    @Override
+    public WheelPicker getWheelHourPicker() {
+        return mPickerHour;
+    }
+
+    @Override
+    public WheelPicker getWheelMinutePicker() {
+        return mPickerMinute;
+    }
+
+    /**
+     * OnDateTimeSelectedListener.
+     */
+    public interface OnDateTimeSelectedListener {
+        void onDateTimeSelected(WheelDateTimePicker picker, Date date);
+    }
+}
@@ -17,13 +17,18 @@
 package com.itheima.wheelpicker.widgets;
 
 
+import com.itheima.wheelpicker.DiffStrategy;
+import com.itheima.wheelpicker.PreparedWheelData;
 import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.chrono.GregorianChronology;
+import com.itheima.wheelpicker.chrono.WheelChronology;
+import com.itheima.wheelpicker.model.IntRangeList;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import ohos.agp.components.AttrSet;
 import ohos.app.Context;
 import ohos.global.resource.NotExistException;
@@ -41,6 +46,8 @@ public class WheelDayPicker extends WheelPicker implements IWheelDayPicker {
 
     private Calendar mCalendar;
 
+    private WheelChronology mChronology = GregorianChronology.getInstance();
+
     private int mYear;
     private int mMonth;
     private int mSelectedDay;
@@ -75,19 +82,18 @@ public class WheelDayPicker extends WheelPicker implements IWheelDayPicker {
 
 
     private void updateDays() {
-        mCalendar.set(Calendar.YEAR, mYear);
-        mCalendar.set(Calendar.MONTH, mMonth);
-
-        int days = mCalendar.getActualMaximum(Calendar.DAY_OF_MONTH);
+        int days = mChronology.getDaysInMonth(mYear, mMonth + 1);
         List<Integer> data = DAYS.get(days);
         if (null == data) {
-            data = new ArrayList<>();
-            for (int i = 1; i <= days; i++) {
-                data.add(i);
-            }
+            data = new IntRangeList(1, days);
             DAYS.put(days, data);
         }
-        super.setData(data);
+        if (getData() instanceof IntRangeList) {
+            // Keeps the selected day when the month gets shorter or longer
+            super.setData(data, DiffStrategy.DEFAULT);
+        } else {
+            super.setData(data);
+        }
     }
 
     private void updateSelectedDay() {
@@ -99,6 +105,21 @@ public class WheelDayPicker extends WheelPicker implements IWheelDayPicker {
         throw new UnsupportedOperationException("You can not invoke setData in WheelDayPicker");
     }
 
+    @Override
+    public void setData(List data, DiffStrategy strategy) {
+        throw new UnsupportedOperationException("You can not invoke setData in WheelDayPicker");
+    }
+
+    @Override
+    public void postData(List data) {
+        throw new UnsupportedOperationException("You can not invoke postData in WheelDayPicker");
+    }
+
+    @Override
+    public CompletableFuture<PreparedWheelData> prepareDataAsync(List source) {
+        throw new UnsupportedOperationException("You can not invoke prepareDataAsync in WheelDayPicker");
+    }
+
     @Override
     public int getSelectedDay() {
         return mSelectedDay;
@@ -143,4 +164,27 @@ public class WheelDayPicker extends WheelPicker implements IWheelDayPicker {
         mMonth = month - 1;
         updateDays();
     }
+
+    /**
+     * Get the calendar system of the day wheel.
+     *
+     * @return Calendar system
+     */
+    public WheelChronology getChronology() {
+        return mChronology;
+    }
+
+    /**
+     * Set the calendar system of the day wheel.
+     * Months are then addressed by their ordinal in the year, see {@link WheelChronology}.
+     *
+     * @param chronology Calendar system
+     */
+    public void setChronology(WheelChronology chronology) {
+        if (null == chronology) {
+            throw new NullPointerException("Chronology can not be null!");
+        }
+        mChronology = chronology;
+        updateDays();
+    }
 }
\ No newline at end of file
@@ -17,11 +17,17 @@
 package com.itheima.wheelpicker.widgets;
 
 
+import com.itheima.wheelpicker.DiffStrategy;
+import com.itheima.wheelpicker.PreparedWheelData;
 import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.chrono.GregorianChronology;
+import com.itheima.wheelpicker.chrono.MonthTable;
+import com.itheima.wheelpicker.chrono.WheelChronology;
+import com.itheima.wheelpicker.model.IntRangeList;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import ohos.agp.components.AttrSet;
 import ohos.app.Context;
 import ohos.global.resource.NotExistException;
@@ -30,11 +36,20 @@ import ohos.global.resource.WrongTypeException;
 
 /**
  * Picker for Months.
+ * The data are the month numbers as Integer for the Gregorian calendar, as they always were,
+ * and the month names as String for other calendar systems.
  *
  * @author AigeStudio 2016-07-12
  * @version 1
  */
 public class WheelMonthPicker extends WheelPicker implements IWheelMonthPicker {
+    private static final List<Integer> MONTHS = new IntRangeList(1, 12);
+
+    private WheelChronology mChronology = GregorianChronology.getInstance();
+
+    private MonthTable mMonthTable;
+
+    private int mYear;
     private int mSelectedMonth;
 
     public WheelMonthPicker(Context context) {
@@ -53,16 +68,22 @@ public class WheelMonthPicker extends WheelPicker implements IWheelMonthPicker {
     public WheelMonthPicker(Context context, AttrSet attrs) throws NotExistException, WrongTypeException, IOException {
         super(context, attrs);
 
-        List<Integer> data = new ArrayList<>();
-        for (int i = 1; i <= 12; i++) {
-            data.add(i);
-        }
-        super.setData(data);
+        Calendar calendar = Calendar.getInstance();
+        mYear = calendar.get(Calendar.YEAR);
+        updateMonths();
 
-        mSelectedMonth = Calendar.getInstance().get(Calendar.MONTH) + 1;
+        mSelectedMonth = calendar.get(Calendar.MONTH) + 1;
         updateSelectedYear();
     }
 
+    private void updateMonths() {
+        mMonthTable = mChronology.getMonthTable(mYear);
+        List data = mChronology instanceof GregorianChronology ? MONTHS : mMonthTable.getLabels();
+        // Most years show the same months, only a different leap month changes the data
+        if (!data.equals(getData())) {
+            super.setData(data);
+        }
+    }
 
     private void updateSelectedYear() {
         setSelectedItemPosition(mSelectedMonth - 1);
@@ -73,6 +94,21 @@ public class WheelMonthPicker extends WheelPicker implements IWheelMonthPicker {
         throw new UnsupportedOperationException("You can not invoke setData in WheelMonthPicker");
     }
 
+    @Override
+    public void setData(List data, DiffStrategy strategy) {
+        throw new UnsupportedOperationException("You can not invoke setData in WheelMonthPicker");
+    }
+
+    @Override
+    public void postData(List data) {
+        throw new UnsupportedOperationException("You can not invoke postData in WheelMonthPicker");
+    }
+
+    @Override
+    public CompletableFuture<PreparedWheelData> prepareDataAsync(List source) {
+        throw new UnsupportedOperationException("You can not invoke prepareDataAsync in WheelMonthPicker");
+    }
+
     @Override
     public int getSelectedMonth() {
         return mSelectedMonth;
@@ -86,6 +122,59 @@ public class WheelMonthPicker extends WheelPicker implements IWheelMonthPicker {
 
     @Override
     public int getCurrentMonth() {
-        return Integer.valueOf(String.valueOf(getData().get(getCurrentItemPosition())));
+        return getCurrentItemPosition() + 1;
+    }
+
+    /**
+     * Get the calendar system of the month wheel.
+     *
+     * @return Calendar system
+     */
+    public WheelChronology getChronology() {
+        return mChronology;
+    }
+
+    /**
+     * Set the calendar system of the month wheel.
+     *
+     * @param chronology Calendar system
+     */
+    public void setChronology(WheelChronology chronology) {
+        if (null == chronology) {
+            throw new NullPointerException("Chronology can not be null!");
+        }
+        mChronology = chronology;
+        updateMonths();
+    }
+
+    /**
+     * Get the year whose months are shown.
+     *
+     * @return Year
+     */
+    public int getYear() {
+        return mYear;
+    }
+
+    /**
+     * Set the year whose months are shown, the month count may change with it.
+     * The current month is kept by its number, a leap month falls back to the regular month
+     * if the new year has no such leap month.
+     *
+     * @param year Year
+     */
+    public void setYear(int year) {
+        MonthTable previous = mMonthTable;
+        int month = getCurrentMonth();
+        mYear = year;
+        updateMonths();
+        if (null != previous) {
+            // Keep the same month rather than the same ordinal when the leap month moves,
+            // jumping so that the current month is updated before this returns
+            int ordinal = previous.mapMonth(month, mMonthTable);
+            if (ordinal != getCurrentMonth()) {
+                helperSetSelectedItemPosition(ordinal - 1, false);
+            }
+        }
     }
 }
\ No newline at end of file
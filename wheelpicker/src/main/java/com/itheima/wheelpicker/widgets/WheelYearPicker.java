@@ -17,11 +17,14 @@
 package com.itheima.wheelpicker.widgets;
 
 
+import com.itheima.wheelpicker.DiffStrategy;
+import com.itheima.wheelpicker.PreparedWheelData;
 import com.itheima.wheelpicker.WheelPicker;
+import com.itheima.wheelpicker.model.IntRangeList;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import ohos.agp.components.AttrSet;
 import ohos.app.Context;
 import ohos.global.resource.NotExistException;
@@ -61,11 +64,7 @@ public class WheelYearPicker extends WheelPicker implements IWheelYearPicker {
     }
 
     private void updateYears() {
-        List<Integer> data = new ArrayList<>();
-        for (int i = mYearStart; i <= mYearEnd; i++) {
-            data.add(i);
-        }
-        super.setData(data);
+        super.setData(new IntRangeList(mYearStart, mYearEnd));
     }
 
     private void updateSelectedYear() {
@@ -77,6 +76,21 @@ public class WheelYearPicker extends WheelPicker implements IWheelYearPicker {
         throw new UnsupportedOperationException("You can not invoke setData in WheelYearPicker");
     }
 
+    @Override
+    public void setData(List data, DiffStrategy strategy) {
+        throw new UnsupportedOperationException("You can not invoke setData in WheelYearPicker");
+    }
+
+    @Override
+    public void postData(List data) {
+        throw new UnsupportedOperationException("You can not invoke postData in WheelYearPicker");
+    }
+
+    @Override
+    public CompletableFuture<PreparedWheelData> prepareDataAsync(List source) {
+        throw new UnsupportedOperationException("You can not invoke prepareDataAsync in WheelYearPicker");
+    }
+
     @Override
     public void setYearFrame(int start, int end) {
         mYearStart = start;
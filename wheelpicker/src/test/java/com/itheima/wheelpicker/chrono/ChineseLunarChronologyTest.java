@@ -0,0 +1,76 @@
+package com.itheima.wheelpicker.chrono;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChineseLunarChronologyTest {
+    private final ChineseLunarChronology chronology = ChineseLunarChronology.getInstance();
+
+    @Test
+    public void leapYearHasThirteenMonths() {
+        MonthTable table = chronology.getMonthTable(2023);
+        assertEquals(13, table.getMonthCount());
+        assertEquals(3, table.getLeapMonth());
+        assertEquals("闰二月", table.getLabels().get(2));
+        assertEquals(12, chronology.getMonthsInYear(2024));
+    }
+
+    @Test
+    public void monthTablesAreCached() {
+        assertSame(chronology.getMonthTable(2020), chronology.getMonthTable(2020));
+    }
+
+    @Test
+    public void newYearDates() {
+        assertEquals(date(2024, Calendar.FEBRUARY, 10), chronology.toDate(2024, 1, 1));
+        assertEquals(date(2023, Calendar.MARCH, 22), chronology.toDate(2023, 3, 1));
+        assertArrayEquals(new int[] {2020, 1, 1}, chronology.fromDate(date(2020, Calendar.JANUARY, 25)));
+    }
+
+    @Test
+    public void monthsAreMappedByIdentity() {
+        MonthTable leap = chronology.getMonthTable(2023);
+        MonthTable common = chronology.getMonthTable(2024);
+        assertEquals(3, leap.getMonthNumber(4));
+        assertEquals(2, leap.getMonthNumber(3));
+        assertTrue(leap.isLeapMonth(3));
+        assertFalse(leap.isLeapMonth(2));
+        assertEquals(3, common.getOrdinal(leap.getMonthNumber(4), leap.isLeapMonth(4)));
+        assertEquals(2, common.getOrdinal(leap.getMonthNumber(3), leap.isLeapMonth(3)));
+        assertEquals(4, leap.getOrdinal(3, false));
+        assertEquals(3, leap.getOrdinal(2, true));
+        assertEquals(13, leap.getOrdinal(12, false));
+    }
+
+    @Test
+    public void lastMonthOfLeapYearMapsIntoCommonYear() {
+        MonthTable leap = chronology.getMonthTable(2023);
+        MonthTable common = chronology.getMonthTable(2024);
+        int month = leap.mapMonth(13, common);
+        assertEquals(12, month);
+        assertEquals(common.getDays(12), chronology.getDaysInMonth(2024, month));
+        assertEquals(13, common.mapMonth(12, leap));
+        assertEquals(2, leap.mapMonth(3, common));
+    }
+
+    @Test
+    public void gregorianLeapFebruary() {
+        assertEquals(29, GregorianChronology.getInstance().getDaysInMonth(2024, 2));
+        assertEquals(28, GregorianChronology.getInstance().getDaysInMonth(2100, 2));
+    }
+
+    private static Date date(int year, int month, int day) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, day);
+        return calendar.getTime();
+    }
+}
@@ -0,0 +1,128 @@
+package com.itheima.wheelpicker.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PagedWheelDataTest {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final List<String> requests = new ArrayList<>();
+
+    private final List<String> changes = new ArrayList<>();
+
+    private int available = Integer.MAX_VALUE;
+
+    @Test
+    public void loadsThePageAndItsNeighbours() {
+        PagedWheelData<String> data = create(25, 10, 3);
+        assertEquals("...", data.get(9));
+        runTasks();
+        assertEquals("[0+10, 10+10]", requests.toString());
+        assertEquals("[0+10, 10+10]", changes.toString());
+        assertEquals("item9", data.get(9));
+        assertEquals("item10", data.get(10));
+        assertFalse(data.isLoaded(20));
+    }
+
+    @Test
+    public void lastPageIsShorter() {
+        PagedWheelData<String> data = create(25, 10, 3);
+        data.get(24);
+        runTasks();
+        assertEquals("[20+5, 10+10]", requests.toString());
+        assertEquals("[20+5, 10+10]", changes.toString());
+        assertEquals("item24", data.get(24));
+    }
+
+    @Test
+    public void leastRecentlyUsedPageIsDropped() {
+        PagedWheelData<String> data = create(100, 10, 3);
+        data.get(0);
+        runTasks();
+        data.get(5);
+        data.get(25);
+        runTasks();
+        assertTrue(data.isLoaded(5));
+        assertFalse(data.isLoaded(15));
+        assertTrue(data.isLoaded(25));
+        assertTrue(data.isLoaded(35));
+    }
+
+    @Test
+    public void missingItemsOfShortPagesShowThePlaceholder() {
+        available = 12;
+        PagedWheelData<String> data = create(15, 10, 3);
+        data.get(10);
+        runTasks();
+        assertTrue(data.isLoaded(13));
+        assertEquals("item11", data.get(11));
+        assertEquals("...", data.get(13));
+        assertNull(data.getItem(13));
+        assertEquals("item10", data.getWidestText());
+    }
+
+    @Test
+    public void invalidateDropsLoadsInFlight() {
+        PagedWheelData<String> data = create(25, 10, 3);
+        data.get(0);
+        data.invalidate();
+        changes.clear();
+        runTasks();
+        assertFalse(data.isLoaded(0));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void positionsAreResolvedFromLoadedPagesOnly() {
+        PagedWheelData<String> data = create(100, 10, 3);
+        data.get(45);
+        runTasks();
+        requests.clear();
+        assertEquals(47, data.resolvePosition("item47"));
+        assertEquals(31, data.resolvePosition("item31"));
+        assertEquals(-1, data.resolvePosition("item5"));
+        assertTrue(requests.isEmpty());
+    }
+
+    private PagedWheelData<String> create(int size, int pageSize, int maxCachedPages) {
+        PagedWheelData<String> data = new PagedWheelData<>(this::loadPage, size, pageSize, maxCachedPages,
+                tasks::add, tasks::add);
+        data.registerObserver(new AbstractObservableWheelData.DataObserver() {
+            @Override
+            public void onItemRangeInserted(int start, int count) {
+            }
+
+            @Override
+            public void onItemRangeRemoved(int start, int count) {
+            }
+
+            @Override
+            public void onItemRangeChanged(int start, int count) {
+                changes.add(start + "+" + count);
+            }
+        });
+        return data;
+    }
+
+    private List<String> loadPage(int start, int count) {
+        requests.add(start + "+" + count);
+        List<String> items = new ArrayList<>();
+        for (int i = start; i < Math.min(start + count, available); i++) {
+            items.add("item" + i);
+        }
+        return items;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.itheima.wheelpicker.search;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PinyinInitialsTest {
+    @Test
+    public void levelOneCharacters() {
+        assertEquals("gds", PinyinInitials.of("广东省"));
+        assertEquals("bjs", PinyinInitials.of("北京市"));
+        assertEquals("cs", PinyinInitials.of("长沙"));
+    }
+
+    @Test
+    public void levelTwoPlaceNames() {
+        assertEquals("gdsszs", PinyinInitials.of("广东省深圳市"));
+        assertEquals("bzs", PinyinInitials.of("亳州市"));
+        assertEquals("pys", PinyinInitials.of("濮阳市"));
+        assertEquals("hds", PinyinInitials.of("邯郸市"));
+        assertEquals("qzs", PinyinInitials.of("衢州市"));
+        assertEquals("lzs", PinyinInitials.of("泸州市"));
+        assertEquals("xyx", PinyinInitials.of("盱眙县"));
+        assertEquals("yzq", PinyinInitials.of("鄞州区"));
+    }
+
+    @Test
+    public void lettersAndDigitsAreKept() {
+        assertEquals("798yq", PinyinInitials.of("798 园区"));
+        assertEquals("abc", PinyinInitials.of("ABC"));
+    }
+
+    @Test
+    public void searchFindsRegionNames() {
+        List<String> cities = Arrays.asList("广州市", "韶关市", "深圳市", "珠海市", "汕头市", "佛山市", "肇庆市");
+        WheelSearchIndex index = WheelSearchIndex.build(cities, true);
+        assertArrayEquals(new int[] {2}, index.findAll("sz"));
+        assertArrayEquals(new int[] {1, 2, 4}, index.findAll("s"));
+        assertEquals(6, index.findFirst("zq"));
+    }
+}
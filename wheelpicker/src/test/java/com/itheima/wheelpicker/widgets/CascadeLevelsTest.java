@@ -0,0 +1,108 @@
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.IWidestTextHint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CascadeLevelsTest {
+    private final List<String> labelCalls = new ArrayList<>();
+
+    private final List<String> childrenCalls = new ArrayList<>();
+
+    @Test
+    public void equalNodesOnDifferentLevelsHaveTheirOwnLists() {
+        CascadeLevels<Integer> levels = new CascadeLevels<>(new HintedSource(), 8);
+        CascadeLevels.Level<Integer> second = levels.getChildren(1, 1);
+        CascadeLevels.Level<Integer> third = levels.getChildren(2, 1);
+        assertNotSame(second, third);
+        assertSame(second, levels.getChildren(1, 1));
+        assertEquals(Arrays.asList(11, 12), third.mNodes);
+        assertEquals("widest 1", ((IWidestTextHint) second.mLabels).getWidestText());
+        assertEquals("widest 2", ((IWidestTextHint) third.mLabels).getWidestText());
+        assertEquals(2, levels.getCachedCount());
+    }
+
+    @Test
+    public void labelsAreFetchedWhenDrawn() {
+        CascadeLevels<Integer> levels = new CascadeLevels<>(new Source(), 8);
+        List<String> labels = levels.getRoot().mLabels;
+        assertEquals(3, labels.size());
+        assertEquals(Collections.emptyList(), labelCalls);
+        assertEquals("node 2", labels.get(1));
+        assertEquals("node 2", labels.get(1));
+        assertEquals(Collections.singletonList("2"), labelCalls);
+    }
+
+    @Test
+    public void widestLabelComesFromTheSource() {
+        CascadeLevels<Integer> hinted = new CascadeLevels<>(new HintedSource(), 8);
+        assertEquals("widest 0", ((IWidestTextHint) hinted.getRoot().mLabels).getWidestText());
+        assertEquals("widest 1", ((IWidestTextHint) hinted.getChildren(1, 1).mLabels).getWidestText());
+        assertEquals(Collections.emptyList(), labelCalls);
+
+        CascadeLevels<Integer> plain = new CascadeLevels<>(new Source(), 8);
+        assertNull(((IWidestTextHint) plain.getRoot().mLabels).getWidestText());
+    }
+
+    @Test
+    public void leastRecentlyUsedListIsDropped() {
+        CascadeLevels<Integer> levels = new CascadeLevels<>(new Source(), 2);
+        CascadeLevels.Level<Integer> first = levels.getChildren(1, 1);
+        levels.getChildren(1, 2);
+        levels.getChildren(1, 1);
+        levels.getChildren(1, 3);
+        assertEquals(2, levels.getCachedCount());
+        assertSame(first, levels.getChildren(1, 1));
+        childrenCalls.clear();
+        levels.getChildren(1, 2);
+        assertEquals(Collections.singletonList("2"), childrenCalls);
+    }
+
+    @Test
+    public void shrinkingTheCacheDropsLists() {
+        CascadeLevels<Integer> levels = new CascadeLevels<>(new Source(), 8);
+        CascadeLevels.Level<Integer> first = levels.getChildren(1, 1);
+        levels.getChildren(1, 2);
+        levels.setCacheSize(1);
+        assertEquals(1, levels.getCachedCount());
+        assertNotSame(first, levels.getChildren(1, 1));
+    }
+
+    private class Source implements ICascadeDataSource<Integer> {
+        @Override
+        public int getLevelCount() {
+            return 3;
+        }
+
+        @Override
+        public List<Integer> getChildren(Integer parent) {
+            if (null == parent) {
+                return Arrays.asList(1, 2, 3);
+            }
+            childrenCalls.add(String.valueOf(parent));
+            return Arrays.asList(parent * 10 + 1, parent * 10 + 2);
+        }
+
+        @Override
+        public String getLabel(Integer node) {
+            labelCalls.add(String.valueOf(node));
+            return "node " + node;
+        }
+    }
+
+    private final class HintedSource extends Source implements ICascadeWidestLabel {
+        @Override
+        public String getWidestLabel(int level) {
+            return "widest " + level;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.itheima.wheelpicker.widgets;
+
+import com.itheima.wheelpicker.core.TextMeasurer;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DayAxisListTest {
+    /**
+     * Latin capitals twice as wide as other characters, so the names differ in width.
+     */
+    private static final TextMeasurer MEASURER = text -> {
+        float width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            width += c >= 'A' && c <= 'Z' ? 2 : c == 'm' || c == 'w' ? 1.5F : 1;
+        }
+        return width;
+    };
+
+    @Test
+    public void mapsPositionsToDays() {
+        DayAxisList days = new DayAxisList(date(2024, Calendar.FEBRUARY, 27, 15), date(2024, Calendar.MARCH, 31, 8));
+        assertEquals(34, days.size());
+        assertEquals(date(2024, Calendar.FEBRUARY, 27, 0), days.dayAt(0).getTime());
+        assertEquals(date(2024, Calendar.FEBRUARY, 29, 0), days.dayAt(2).getTime());
+        assertEquals(date(2024, Calendar.MARCH, 31, 0), days.dayAt(33).getTime());
+        for (int i = 0; i < days.size(); i++) {
+            assertEquals(i, days.positionOf(days.dayAt(i).getTime()));
+        }
+        assertEquals(3, days.positionOf(date(2024, Calendar.MARCH, 1, 23)));
+    }
+
+    @Test
+    public void clampsToTheAxis() {
+        DayAxisList days = new DayAxisList(date(2024, Calendar.JANUARY, 1, 0), date(2024, Calendar.JANUARY, 10, 0));
+        assertEquals(0, days.positionOf(date(2023, Calendar.DECEMBER, 1, 0)));
+        assertEquals(9, days.positionOf(date(2025, Calendar.JANUARY, 1, 0)));
+        assertEquals(1, new DayAxisList(date(2024, Calendar.JANUARY, 1, 8), date(2024, Calendar.JANUARY, 1, 20)).size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsPositionsPastTheEnd() {
+        new DayAxisList(date(2024, Calendar.JANUARY, 1, 0), date(2024, Calendar.JANUARY, 10, 0)).get(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEndBeforeStart() {
+        new DayAxisList(date(2024, Calendar.JANUARY, 10, 0), date(2024, Calendar.JANUARY, 1, 0));
+    }
+
+    @Test
+    public void widestLabelSampleCoversEveryLabel() {
+        DayAxisList days = new DayAxisList(date(2024, Calendar.JANUARY, 1, 0), date(2025, Calendar.DECEMBER, 31, 0));
+        float sampleWidth = MEASURER.measureText(days.getWidestLabelSample(MEASURER));
+        for (int i = 0; i < days.size(); i++) {
+            String label = days.get(i);
+            assertTrue(label + " is wider than the sample", MEASURER.measureText(label) <= sampleWidth);
+        }
+    }
+
+    private static Date date(int year, int month, int day, int hour) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, day, hour, 0);
+        return calendar.getTime();
+    }
+}